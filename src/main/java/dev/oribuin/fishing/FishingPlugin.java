@@ -10,7 +10,9 @@ import dev.oribuin.fishing.hook.plugin.HeadDbProvider;
 import dev.oribuin.fishing.hook.plugin.PAPIProvider;
 import dev.oribuin.fishing.listener.FishListener;
 import dev.oribuin.fishing.listener.PlayerListeners;
+import dev.oribuin.fishing.listener.RodListeners;
 import dev.oribuin.fishing.listener.TotemListeners;
+import dev.oribuin.fishing.manager.AnimationManager;
 import dev.oribuin.fishing.manager.AugmentManager;
 import dev.oribuin.fishing.manager.CommandManager;
 import dev.oribuin.fishing.manager.DataManager;
@@ -19,13 +21,18 @@ import dev.oribuin.fishing.manager.RodManager;
 import dev.oribuin.fishing.manager.TierManager;
 import dev.oribuin.fishing.manager.TotemManager;
 import dev.oribuin.fishing.model.totem.upgrade.TotemUpgradeRegistry;
+import dev.oribuin.fishing.scheduler.PluginScheduler;
+import dev.oribuin.fishing.util.math.Formula;
 import org.bukkit.plugin.PluginManager;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import java.util.concurrent.TimeUnit;
+
 public class FishingPlugin extends JavaPlugin {
 
     private static FishingPlugin instance;
     private ConfigLoader configLoader;
+    private AnimationManager animationManager;
     private AugmentManager augmentManager;
     private CommandManager commandManager;
     private DataManager dataManager;
@@ -54,11 +61,13 @@ public class FishingPlugin extends JavaPlugin {
         this.totemManager = new TotemManager(this);
         this.rodManager = new RodManager(this);
         this.menuManager = new MenuManager(this);
+        this.animationManager = new AnimationManager(this);
         this.reload();
 
         PluginManager manager = this.getServer().getPluginManager();
         manager.registerEvents(new FishListener(this), this);
         manager.registerEvents(new PlayerListeners(this), this);
+        manager.registerEvents(new RodListeners(this), this);
         manager.registerEvents(new TotemListeners(this), this);
 
         // register plugin hooks
@@ -66,8 +75,19 @@ public class FishingPlugin extends JavaPlugin {
         if (PAPIProvider.isEnabled()) new PAPIProvider(this).register();
     }
 
+    @Override
+    public void onDisable() {
+        // Stop anything still running and save any users who have changed
+        if (this.animationManager != null) this.animationManager.disable(this);
+        if (this.totemManager != null) this.totemManager.disable(this);
+        if (this.dataManager != null) this.dataManager.disable(this);
+        PluginScheduler.get().shutdownLanes(5, TimeUnit.SECONDS);
+    }
+
     public void reload() {
+        Formula.clearCache(); // The formulas are compiled again as the configs are loaded
         this.configLoader.reload();
+        PluginScheduler.get().getMetrics().setSlowThreshold(Config.get().getSlowTaskThreshold());
         this.dataManager.reload(this);
         this.commandManager.reload(this);
         this.tierManager.reload(this);
@@ -75,6 +95,7 @@ public class FishingPlugin extends JavaPlugin {
         this.totemManager.reload(this);
         this.rodManager.reload(this);
         this.menuManager.reload(this);
+        this.animationManager.reload(this);
 
         TotemUpgradeRegistry.register();
     }
@@ -114,4 +135,8 @@ public class FishingPlugin extends JavaPlugin {
     public RodManager getRodManager() {
         return rodManager;
     }
+
+    public AnimationManager getAnimationManager() {
+        return animationManager;
+    }
 }
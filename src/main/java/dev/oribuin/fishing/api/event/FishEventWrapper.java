@@ -2,10 +2,12 @@ package dev.oribuin.fishing.api.event;
 
 import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.model.augment.Augment;
+import dev.oribuin.fishing.model.condition.CatchContext;
 import dev.oribuin.fishing.model.totem.Totem;
 import org.bukkit.entity.FishHook;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
+import org.bukkit.event.HandlerList;
 import org.bukkit.inventory.ItemStack;
 
 import java.util.Map;
@@ -18,8 +20,22 @@ import java.util.Map;
  * @param rod      The rod used to catch the fish
  * @param augments The augments equipped on the rod
  * @param totem    The nearby totem to the rod
+ * @param context  The environment around the hook, shared by all the catch conditions
  */
-public record FishEventWrapper(Player player, FishHook hook, ItemStack rod, Map<Augment, Integer> augments, Totem totem) {
+public record FishEventWrapper(Player player, FishHook hook, ItemStack rod, Map<Augment, Integer> augments, Totem totem, CatchContext context) {
+
+    /**
+     * Create a fish event wrapper which covers all the events and important information regarding a fishing event
+     *
+     * @param player   The player who caught the fish
+     * @param hook     The hook that was bitten by the fish
+     * @param rod      The rod used to catch the fish
+     * @param augments The augments equipped on the rod
+     * @param totem    The nearby totem to the rod
+     */
+    public FishEventWrapper(Player player, FishHook hook, ItemStack rod, Map<Augment, Integer> augments, Totem totem) {
+        this(player, hook, rod, augments, totem, new CatchContext(player, hook, rod, augments));
+    }
 
     /**
      * Create a fish event wrapper which covers all the events and important information regarding a fishing event
@@ -38,6 +54,36 @@ public record FishEventWrapper(Player player, FishHook hook, ItemStack rod, Map<
         );
     }
 
+    /**
+     * Check if any of the augments or the nearby totem listen to an event
+     *
+     * @param eventClass The event class
+     *
+     * @return true if the event is handled by the wrapper
+     */
+    public boolean isRegistered(Class<? extends Event> eventClass) {
+        if (this.augments != null) {
+            for (Augment augment : this.augments.keySet()) {
+                if (augment.isRegistered(eventClass)) return true;
+            }
+        }
+
+        return this.totem != null && this.totem.isActive() && this.totem.isRegistered(eventClass);
+    }
+
+    /**
+     * Check if anything would handle an event, either through bukkit or the augments and totem.
+     * If nothing is listening, the event does not need to be created at all.
+     *
+     * @param eventClass The event class
+     * @param handlers   The bukkit handlers of the event
+     *
+     * @return true if the event should be called
+     */
+    public boolean isListening(Class<? extends Event> eventClass, HandlerList handlers) {
+        return handlers.getRegisteredListeners().length > 0 || this.isRegistered(eventClass);
+    }
+
     /**
      * Handle the event for a specified fishing event
      *
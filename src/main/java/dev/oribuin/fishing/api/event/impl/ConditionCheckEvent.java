@@ -1,6 +1,7 @@
 package dev.oribuin.fishing.api.event.impl;
 
 import dev.oribuin.fishing.api.event.FishEventWrapper;
+import dev.oribuin.fishing.model.augment.Augment;
 import dev.oribuin.fishing.model.condition.CatchCondition;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.FishHook;
@@ -11,6 +12,8 @@ import org.bukkit.event.player.PlayerEvent;
 import org.bukkit.inventory.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+
 /**
  * This event determines the result of a condition check, which can be modified by other conditions.
  */
@@ -54,6 +57,15 @@ public class ConditionCheckEvent extends PlayerEvent implements Cancellable {
         return this.wrapper.hook();
     }
 
+    /**
+     * The augments that are equipped on the fishing rod
+     *
+     * @return The augments and their levels
+     */
+    public Map<Augment, Integer> getAugments() {
+        return this.wrapper.augments();
+    }
+
     /**
      * The condition that is being checked
      *
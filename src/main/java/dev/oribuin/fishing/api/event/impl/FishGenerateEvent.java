@@ -4,9 +4,7 @@ import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.api.event.FishEventWrapper;
 import dev.oribuin.fishing.manager.TierManager;
 import dev.oribuin.fishing.model.augment.Augment;
-import dev.oribuin.fishing.model.condition.ConditionRegistry;
 import dev.oribuin.fishing.model.fish.Fish;
-import dev.oribuin.fishing.model.fish.Tier;
 import dev.oribuin.fishing.model.totem.Totem;
 import dev.oribuin.fishing.util.FishUtils;
 import org.bukkit.Bukkit;
@@ -80,19 +78,7 @@ public class FishGenerateEvent extends PlayerEvent implements Cancellable {
                 .mapToDouble(Double::doubleValue)
                 .sum();
 
-        Tier quality = tierProvider.selectTier(newChance);
-        if (quality == null) return;
-
-        // Make sure the quality is not null
-        List<Fish> canCatch = quality.getFish().values().stream()
-                .filter(x -> ConditionRegistry.check(x, wrapper))
-                .toList();
-
-        if (canCatch.isEmpty()) return;
-
-        // Pick a random fish from the list
-        int index = FishUtils.RANDOM.nextInt(canCatch.size());
-        this.fish = canCatch.get(index);
+        this.fish = tierProvider.generateFish(newChance, this.wrapper);
     }
 
 
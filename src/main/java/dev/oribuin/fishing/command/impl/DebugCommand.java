@@ -2,10 +2,14 @@ package dev.oribuin.fishing.command.impl;
 
 import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.command.FishCommand;
+import dev.oribuin.fishing.manager.DataManager;
 import dev.oribuin.fishing.model.totem.Totem;
+import dev.oribuin.fishing.scheduler.PluginScheduler;
+import dev.oribuin.fishing.scheduler.TaskMetrics;
 import dev.oribuin.fishing.storage.util.KeyRegistry;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Material;
+import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -28,6 +32,71 @@ public class DebugCommand implements FishCommand {
         this.plugin = plugin;
     }
 
+    /**
+     * Debug the last time users were saved to the database
+     *
+     * @param sender The sender running the command
+     */
+    @Command("fishing|fish debug storage")
+    @Permission("fishing.debug")
+    @CommandDescription("Get the result of the last user save")
+    public void debugStorage(CommandSender sender) {
+        DataManager.FlushStats stats = this.plugin.getDataManager().getLastFlush();
+        if (stats == null) {
+            sender.sendMessage("no users saved yet :/");
+            return;
+        }
+
+        long ago = (System.currentTimeMillis() - stats.timestamp()) / 1000;
+        sender.sendMessage("Last Save: " + stats.rows() + " users in " + stats.batches() + " batches, took " + stats.millis() + "ms (" + ago + "s ago)");
+    }
+
+    /**
+     * Debug how long the plugin's scheduled tasks are taking to run
+     *
+     * @param sender The sender running the command
+     */
+    @Command("fishing|fish debug scheduler")
+    @Permission("fishing.debug")
+    @CommandDescription("Get the timings of the plugin's scheduled tasks")
+    public void debugScheduler(CommandSender sender) {
+        PluginScheduler scheduler = PluginScheduler.get();
+        Map<String, TaskMetrics.Stats> stats = scheduler.getMetrics().getStats();
+        if (stats.isEmpty()) {
+            sender.sendMessage("no tasks have run yet :/");
+            return;
+        }
+
+        sender.sendMessage("Scheduler Timings (" + scheduler.getRunningTaskCount() + " running): ");
+        stats.forEach((label, result) -> {
+            TaskMetrics.Histogram run = result.getRun();
+            TaskMetrics.Histogram queue = result.getQueue();
+            sender.sendMessage(String.format("%s: %d runs, run avg %.2fms p99 %.2fms max %.2fms, wait avg %.2fms p99 %.2fms, %d slow",
+                    label,
+                    run.getCount(),
+                    run.getMean() / 1000.0,
+                    run.getPercentile(0.99) / 1000.0,
+                    run.getMax() / 1000.0,
+                    queue.getMean() / 1000.0,
+                    queue.getPercentile(0.99) / 1000.0,
+                    result.getSlow()
+            ));
+        });
+    }
+
+    /**
+     * Reset the timings of the plugin's scheduled tasks
+     *
+     * @param sender The sender running the command
+     */
+    @Command("fishing|fish debug scheduler reset")
+    @Permission("fishing.debug")
+    @CommandDescription("Reset the timings of the plugin's scheduled tasks")
+    public void resetScheduler(CommandSender sender) {
+        PluginScheduler.get().getMetrics().reset();
+        sender.sendMessage("Reset the scheduler timings.");
+    }
+
     /**
      * Debug all the placeholders a totem has
      *
@@ -142,8 +142,7 @@ public class GiveCommand implements FishCommand {
     public void giveEntropy(CommandSender sender, Player target, Integer amount) {
 
         Fisher fisher = this.plugin.getDataManager().get(target.getUniqueId());
-        fisher.setEntropy(fisher.getEntropy() + amount);
-        this.plugin.getDataManager().saveUser(fisher);
+        fisher.addEntropy(amount);
 
         PluginMessages.get().getGivenAmount().send(sender,
                 "target", target.getName(),
@@ -166,9 +165,8 @@ public class GiveCommand implements FishCommand {
     public void giveExperience(CommandSender sender, Player target, Integer amount) {
 
         Fisher fisher = this.plugin.getDataManager().get(target.getUniqueId());
-        fisher.setExperience(fisher.getExperience() + amount);
+        fisher.addExperience(amount);
         while (fisher.canLevelUp()) fisher.levelUp(); // level up multiple times
-        this.plugin.getDataManager().saveUser(fisher);
         
         PluginMessages.get().getGivenAmount().send(sender,
                 "target", target.getName(),
@@ -5,7 +5,9 @@ import dev.oribuin.fishing.config.serializer.AttributeSerializer;
 import dev.oribuin.fishing.config.serializer.ComponentSerializer;
 import dev.oribuin.fishing.config.serializer.DurationSerializer;
 import dev.oribuin.fishing.config.serializer.EnchantSerializer;
+import dev.oribuin.fishing.config.serializer.FormulaSerializer;
 import dev.oribuin.fishing.config.serializer.SoundSerializer;
+import dev.oribuin.fishing.util.math.Formula;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Sound;
 import org.bukkit.attribute.Attribute;
@@ -63,6 +65,7 @@ public class ConfigHandler<T> {
                                     .register(Sound.class, SoundSerializer.getInstance())
                                     .register(Enchantment.class, EnchantSerializer.getInstance())
                                     .register(Duration.class, DurationSerializer.getInstance())
+                                    .register(Formula.class, FormulaSerializer.getInstance())
                                     .build()
                             ).shouldCopyDefaults(true)
                     )
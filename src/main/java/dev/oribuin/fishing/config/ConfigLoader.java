@@ -1,6 +1,7 @@
 package dev.oribuin.fishing.config;
 
 import dev.oribuin.fishing.FishingPlugin;
+import dev.oribuin.fishing.scheduler.PluginScheduler;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -8,7 +9,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class ConfigLoader {
@@ -122,13 +126,13 @@ public class ConfigLoader {
     }
 
     /**
-     * Write and save a config file into a directory
+     * Write and save a config file into a directory, the file is written on the scheduler's file lane
      *
      * @param config The config file to save
      */
     public void saveConfig(Class<?> config) {
         ConfigHandler<?> handler = this.configs.get(config);
-        handler.save();
+        PluginScheduler.get().runFile(PluginScheduler.label("config-save", handler::save));
     }
 
     /**
@@ -140,10 +144,17 @@ public class ConfigLoader {
         }
     }
     
+    /**
+     * Load every config file again, the files are read at the same time on the scheduler's file lane
+     * and this waits until all of them have been loaded
+     */
     public void reload() {
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
         for (ConfigHandler<?> handler : this.configs.values()) {
-            handler.load();
+            tasks.add(PluginScheduler.get().runFile(PluginScheduler.label("config-load", handler::load)));
         }
+
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
     }
 
     public Map<Class<?>, ConfigHandler<?>> getConfigs() {
@@ -13,6 +13,8 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 @SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
 public class ParticleWrapper {
 
+    private static final Color DEFAULT_COLOR = Color.fromRGB(147, 188, 128);
+
     private Particle particle;
     private int count;
     private Color color;
@@ -25,7 +27,7 @@ public class ParticleWrapper {
     public ParticleWrapper() {
         this.particle = Particle.FLAME;
         this.count = 1;
-        this.color = Color.fromRGB(147, 188, 128);
+        this.color = DEFAULT_COLOR;
         this.transition = new DustTransition();
         this.material = Material.STONE;
     }
@@ -69,6 +71,24 @@ public class ParticleWrapper {
         return builder.clone();
     }
 
+    /**
+     * Get the data the particle needs to be displayed, such as the dust colour or the block.
+     * Any values that haven't been set use the same defaults as a new particle wrapper
+     *
+     * @return The particle data, null if the particle doesn't need any
+     */
+    public Object getData() {
+        Class<?> type = this.particle.getDataType();
+        Material material = this.material != null ? this.material : Material.STONE;
+
+        if (type.equals(Particle.DustOptions.class)) return new Particle.DustOptions(this.color != null ? this.color : DEFAULT_COLOR, 1f);
+        if (type.equals(Particle.DustTransition.class)) return (this.transition != null ? this.transition : new DustTransition()).getTransition();
+        if (type.equals(BlockData.class)) return FishUtils.getMaterialData(material);
+        if (type.equals(ItemStack.class)) return new ItemStack(material);
+
+        return null;
+    }
+
     public Particle getParticle() {
         return particle;
     }
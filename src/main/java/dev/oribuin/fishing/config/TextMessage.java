@@ -3,6 +3,7 @@ package dev.oribuin.fishing.config;
 import dev.oribuin.fishing.hook.plugin.PAPIProvider;
 import dev.oribuin.fishing.scheduler.PluginScheduler;
 import dev.oribuin.fishing.util.FishUtils;
+import dev.oribuin.fishing.util.MessageTemplate;
 import dev.oribuin.fishing.util.Placeholders;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.key.Key;
@@ -14,6 +15,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 @ConfigSerializable
 public class TextMessage {
 
@@ -24,6 +28,7 @@ public class TextMessage {
     private @Nullable String titleSubtitle;
     private transient @Nullable Sound.Source source;
     private Boolean placeholderapi;
+    private transient Map<String, MessageTemplate> templates;
 
     /**
      * Create a new message that can be sent to an audience with specified params
@@ -195,10 +200,29 @@ public class TextMessage {
         if (Placeholders == null) Placeholders = dev.oribuin.fishing.util.Placeholders.empty();
 
         boolean usePapi = this.placeholderapi != null ? this.placeholderapi : false;
+        if (usePapi) {
+            // The placeholderapi values can be different every time, so the message can't be kept
+            return MessageTemplate.compile(PAPIProvider.apply(target, message)).render(Placeholders);
+        }
+
+        return this.template(message).render(Placeholders);
+    }
+
+    /**
+     * Get the parsed template for one of the messages, each message is only parsed the first time it's sent
+     *
+     * @param message The message being sent
+     *
+     * @return The message template
+     */
+    private MessageTemplate template(String message) {
+        Map<String, MessageTemplate> current = this.templates;
+        if (current == null) {
+            current = new ConcurrentHashMap<>();
+            this.templates = current;
+        }
 
-        return usePapi
-                ? Placeholders.apply(PAPIProvider.apply(target, message))
-                : Placeholders.apply(message);
+        return current.computeIfAbsent(message, MessageTemplate::compile);
     }
 
     /**
@@ -242,6 +266,7 @@ public class TextMessage {
 
     public TextMessage message(@Nullable String message) {
         this.message = message;
+        this.templates = null;
         return this;
     }
 
@@ -251,6 +276,7 @@ public class TextMessage {
 
     public TextMessage actionbar(@Nullable String actionbar) {
         this.actionbar = actionbar;
+        this.templates = null;
         return this;
     }
 
@@ -282,6 +308,7 @@ public class TextMessage {
 
     public TextMessage titleHeader(@Nullable String titleHeader) {
         this.titleHeader = titleHeader;
+        this.templates = null;
         return this;
     }
 
@@ -291,6 +318,7 @@ public class TextMessage {
 
     public TextMessage titleSubtitle(@Nullable String titleSubtitle) {
         this.titleSubtitle = titleSubtitle;
+        this.templates = null;
         return this;
     }
 
@@ -2,8 +2,11 @@ package dev.oribuin.fishing.config.impl;
 
 import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.model.rod.RodRarity;
+import dev.oribuin.fishing.util.math.Formula;
+import dev.oribuin.fishing.util.math.LevelCurve;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,7 +14,13 @@ import java.util.Map;
 @SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
 public class Config {
 
-    private String experienceFormula = "<level> * 625";
+    private Formula experienceFormula = Formula.of("<level> * 625");
+    private int experienceCurveSize = 1000;
+    private transient LevelCurve levelCurve;
+    private int particleBudget = 2000;
+    private double particleDetailDistance = 16;
+    private Duration saveInterval = Duration.ofSeconds(30);
+    private Duration slowTaskThreshold = Duration.ofMillis(50);
     
     private Map<String, RodRarity> rodUpgrades = new HashMap<>() {{
         this.put("basic", new RodRarity(5, null));
@@ -21,10 +30,34 @@ public class Config {
         return FishingPlugin.get().getConfigLoader().get(Config.class);
     }
 
-    public String getExperienceFormula() {
+    public Formula getExperienceFormula() {
         return experienceFormula;
     }
 
+    public LevelCurve getLevelCurve() {
+        if (this.levelCurve == null) {
+            this.levelCurve = new LevelCurve(this.experienceFormula, this.experienceCurveSize);
+        }
+
+        return levelCurve;
+    }
+
+    public int getParticleBudget() {
+        return particleBudget;
+    }
+
+    public double getParticleDetailDistance() {
+        return particleDetailDistance;
+    }
+
+    public Duration getSaveInterval() {
+        return saveInterval;
+    }
+
+    public Duration getSlowTaskThreshold() {
+        return slowTaskThreshold;
+    }
+
     public Map<String, RodRarity> getRodUpgrades() {
         return rodUpgrades;
     }
@@ -60,6 +60,9 @@ public class PluginMessages {
     @Comment("Player has hit the maximum level for the upgrade")
     private TextMessage hitMaxLevel = new TextMessage(PREFIX + "You cannot level up your upgrade past level <#93bc80><max>");
 
+    @Comment("The message shown when a player is kicked because their data couldn't be loaded")
+    private TextMessage failedToLoad = new TextMessage(PREFIX + "Your fishing data could not be loaded, please try joining again.");
+
     @Comment("All the messages regarding a fishing totem")
     private TotemMessages totem = new TotemMessages();
 
@@ -205,4 +208,8 @@ public class PluginMessages {
         return hitMaxLevel;
     }
 
+    public TextMessage getFailedToLoad() {
+        return failedToLoad;
+    }
+
 }
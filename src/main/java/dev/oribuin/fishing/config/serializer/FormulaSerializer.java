@@ -0,0 +1,31 @@
+package dev.oribuin.fishing.config.serializer;
+
+import dev.oribuin.fishing.util.math.Formula;
+import org.spongepowered.configurate.serialize.ScalarSerializer;
+
+import java.lang.reflect.Type;
+import java.util.function.Predicate;
+
+public class FormulaSerializer extends ScalarSerializer<Formula> {
+
+    private static final FormulaSerializer INSTANCE = new FormulaSerializer();
+
+    private FormulaSerializer() {
+        super(Formula.class);
+    }
+
+    @Override
+    public Formula deserialize(Type type, Object obj) {
+        return Formula.of(obj.toString());
+    }
+
+    @Override
+    public Object serialize(Formula item, Predicate<Class<?>> typeSupported) {
+        return item.getSource();
+    }
+
+    public static FormulaSerializer getInstance() {
+        return INSTANCE;
+    }
+
+}
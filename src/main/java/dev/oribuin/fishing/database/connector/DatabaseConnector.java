@@ -25,6 +25,24 @@ public interface DatabaseConnector {
      */
     void connect(ConnectionCallback callback, boolean useTransaction);
 
+    /**
+     * Executes a callback inside a transaction, the changes are only kept if the whole callback succeeds
+     *
+     * @param callback The callback to execute once the connection is retrieved
+     *
+     * @return true if the changes were committed, false if they were rolled back
+     */
+    boolean write(ConnectionCallback callback);
+
+    /**
+     * Executes a callback that only reads from the database, connectors may run reads on a separate connection to writes
+     *
+     * @param callback The callback to execute once the connection is retrieved
+     */
+    default void read(ConnectionCallback callback) {
+        this.connect(callback);
+    }
+
     /**
      * Aquires a database connection.
      * You must close this connection by calling {@link Connection#close()}.
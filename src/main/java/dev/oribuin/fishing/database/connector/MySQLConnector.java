@@ -25,6 +25,7 @@ public class MySQLConnector implements DatabaseConnector {
         config.setUsername(username);
         config.setPassword(password);
         config.setMaximumPoolSize(poolSize);
+        config.addDataSourceProperty("rewriteBatchedStatements", "true"); // Send batches as multi-row statements
 
         try { // Try to use the new driver
             Class.forName("com.mysql.cj.jdbc.Driver");
@@ -57,11 +58,7 @@ public class MySQLConnector implements DatabaseConnector {
             this.javaPlugin.getLogger().severe("An error occurred executing a MySQL query: " + ex.getMessage());
             ex.printStackTrace();
         } finally {
-            int open = this.openConnections.decrementAndGet();
-            synchronized (this.lock) {
-                if (open == 0)
-                    this.lock.notify();
-            }
+            this.finish();
         }
     }
 
@@ -70,6 +67,30 @@ public class MySQLConnector implements DatabaseConnector {
         this.connect(callback);
     }
 
+    @Override
+    public boolean write(ConnectionCallback callback) {
+        this.openConnections.incrementAndGet();
+        try (Connection connection = this.hikari.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                callback.accept(connection);
+                connection.commit();
+                return true;
+            } catch (SQLException ex) {
+                connection.rollback();
+                throw ex;
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        } catch (SQLException ex) {
+            this.javaPlugin.getLogger().severe("An error occurred executing a MySQL query: " + ex.getMessage());
+            ex.printStackTrace();
+            return false;
+        } finally {
+            this.finish();
+        }
+    }
+
     @Override
     public Connection connect() throws SQLException {
         return this.hikari.getConnection();
@@ -90,4 +111,15 @@ public class MySQLConnector implements DatabaseConnector {
 
     }
 
+    /**
+     * Mark a connection as finished and notify anything waiting for all connections to finish
+     */
+    private void finish() {
+        int open = this.openConnections.decrementAndGet();
+        synchronized (this.lock) {
+            if (open == 0)
+                this.lock.notify();
+        }
+    }
+
 }
@@ -3,19 +3,55 @@ package dev.oribuin.fishing.database.connector;
 import dev.oribuin.fishing.FishingPlugin;
 
 import java.io.File;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
-@SuppressWarnings("deprecation")
+/**
+ * A SQLite database where every write goes through a single writer thread that owns the only writable connection.
+ * <p>
+ * Writes that are queued together are committed in one transaction, each write has its own savepoint so a failing write
+ * doesn't undo the others. Reads use a small pool of read-only connections, which can run alongside the writer because
+ * the database uses WAL journal mode.
+ */
 public class SQLiteConnector implements DatabaseConnector {
 
+    private static final int READ_CONNECTIONS = 2;
+    private static final int MAX_GROUP_SIZE = 64;
+    private static final long WRITE_TIMEOUT = TimeUnit.SECONDS.toNanos(10);
+
     private final FishingPlugin javaPlugin;
     private final String connectionString;
-    private Connection connection;
     private final AtomicInteger openConnections;
     private final Object lock;
+    private final BlockingQueue<WriteTask> writes;
+    private final BlockingQueue<Connection> readers;
+    private final AtomicInteger createdReaders;
+    private final Thread writer;
+    private final Map<String, PreparedStatement> statements;
+    private Connection connection;
+    private Connection cachedConnection;
+    private volatile boolean running;
 
     public SQLiteConnector(FishingPlugin javaPlugin) {
         this(javaPlugin, FishingPlugin.get().getName().toLowerCase());
@@ -26,114 +62,134 @@ public class SQLiteConnector implements DatabaseConnector {
         this.connectionString = "jdbc:sqlite:" + javaPlugin.getDataFolder() + File.separator + dbName + ".db";
         this.openConnections = new AtomicInteger();
         this.lock = new Object();
+        this.writes = new LinkedBlockingQueue<>();
+        this.readers = new LinkedBlockingQueue<>();
+        this.createdReaders = new AtomicInteger();
+        this.statements = new HashMap<>();
+        this.running = true;
 
         try {
             Class.forName("org.sqlite.JDBC"); // Make sure the driver is actually loaded
-
-            //            // We often find that the /var/tmp directory is set to noexec which breaks our plugins.
-            //            // This moves the temp directory to somewhere we know will absolutely have exec permissions.
-            //            // If this gets overridden by another plugin or something else, that's also fine.
-            //            File tmpdir = new File(this.javaPlugin.getDataFolder(), "tmp");
-            //            if (!tmpdir.exists())
-            //                tmpdir.mkdirs();
-            //            System.setProperty("org.sqlite.tmpdir", tmpdir.getAbsolutePath());
         } catch (ClassNotFoundException e) {
             e.printStackTrace();
         }
+
+        this.writer = new Thread(this::runWriter, "Fishing-SQLite-Writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
     }
 
     @Override
     public void closeConnection() {
+        this.running = false;
+
         try {
-            if (this.connection != null) {
-                this.connection.close();
+            this.writer.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        Connection reader;
+        while ((reader = this.readers.poll()) != null) {
+            try {
+                reader.close();
+            } catch (SQLException ex) {
+                this.javaPlugin.getLogger().severe("An error occurred closing a SQLite read connection: " + ex.getMessage());
             }
-        } catch (SQLException ex) {
-            this.javaPlugin.getLogger().severe("An error occurred closing the SQLite database connection: " + ex.getMessage());
         }
     }
 
     @Override
     public void connect(ConnectionCallback callback) {
-        try {
-            if (this.connection == null || this.connection.isClosed()) {
-                this.connection = DriverManager.getConnection(this.connectionString);
-                this.connection.setAutoCommit(false);
-            }
-        } catch (SQLException ex) {
-            this.javaPlugin.getLogger().severe("An error occurred retrieving the SQLite database connection: " + ex.getMessage());
+        this.write(callback);
+    }
+
+    @Override
+    public void connect(ConnectionCallback callback, boolean useTransaction) {
+        // Every write is committed by the writer thread, so there is no need for a separate non-transaction path
+        this.connect(callback);
+    }
+
+    @Override
+    public boolean write(ConnectionCallback callback) {
+        // Writes made by the writer thread itself are already inside the current transaction
+        if (Thread.currentThread() == this.writer) return this.execute(callback);
+
+        if (!this.running) {
+            this.javaPlugin.getLogger().severe("Tried to write to the SQLite database after it was closed.");
+            return false;
         }
 
         this.openConnections.incrementAndGet();
+        WriteTask task = new WriteTask(callback, new CompletableFuture<>());
         try {
-            if (this.connection.getAutoCommit())
-                this.connection.setAutoCommit(false);
+            this.writes.add(task);
 
-            callback.accept(this.connection);
-            try {
-                this.connection.commit();
-            } catch (SQLException e) {
-                if (e.getMessage() != null && !e.getMessage().contains("transaction"))
-                    throw e;
+            // The writer may have stopped while the write was being queued, it would never be taken
+            if (!this.writer.isAlive() && this.writes.remove(task)) {
+                this.javaPlugin.getLogger().severe("Tried to write to the SQLite database after it was closed.");
+                return false;
+            }
+
+            return this.await(task);
+        } finally {
+            this.finish();
+        }
+    }
 
+    /**
+     * Wait for a queued write to be committed. A write the writer hasn't taken yet is given up on after a timeout,
+     * a write that is already running is waited on until it finishes or the writer stops.
+     *
+     * @param task The write to wait for
+     *
+     * @return true if the write was committed
+     */
+    private boolean await(WriteTask task) {
+        long deadline = System.nanoTime() + WRITE_TIMEOUT;
+        boolean interrupted = false;
+        try {
+            while (true) {
                 try {
-                    this.connection.rollback();
-                } catch (SQLException ignored) {
+                    return task.done().get(1, TimeUnit.SECONDS);
+                } catch (TimeoutException ex) {
+                    if (!this.writer.isAlive()) return task.done().getNow(false);
+                    if (System.nanoTime() > deadline && this.writes.remove(task)) {
+                        this.javaPlugin.getLogger().severe("Timed out waiting for the SQLite writer, the write was not run.");
+                        return false;
+                    }
+                } catch (InterruptedException ex) {
+                    interrupted = true;
+                } catch (ExecutionException ex) {
+                    return false;
                 }
             }
-        } catch (Exception ex) {
-            this.javaPlugin.getLogger().severe("An error occurred executing an SQLite query: " + ex.getMessage());
-            ex.printStackTrace();
         } finally {
-            int open = this.openConnections.decrementAndGet();
-            synchronized (this.lock) {
-                if (open == 0)
-                    this.lock.notify();
-            }
+            if (interrupted) Thread.currentThread().interrupt();
         }
     }
 
     @Override
-    public void connect(ConnectionCallback callback, boolean useTransaction) {
-        if (useTransaction) {
-            this.connect(callback);
-            return;
-        }
-
-        try {
-            if (this.connection == null || this.connection.isClosed())
-                this.connection = DriverManager.getConnection(this.connectionString);
-        } catch (SQLException ex) {
-            this.javaPlugin.getLogger().severe("An error occurred retrieving the SQLite database connection: " + ex.getMessage());
-        }
-
+    public void read(ConnectionCallback callback) {
         this.openConnections.incrementAndGet();
-        try {
-            if (!this.connection.getAutoCommit())
-                this.connection.setAutoCommit(true);
 
-            callback.accept(this.connection);
+        Connection reader = null;
+        try {
+            reader = this.borrowReader();
+            callback.accept(reader);
         } catch (Exception ex) {
             this.javaPlugin.getLogger().severe("An error occurred executing an SQLite query: " + ex.getMessage());
             ex.printStackTrace();
         } finally {
-            int open = this.openConnections.decrementAndGet();
-            synchronized (this.lock) {
-                if (open == 0)
-                    this.lock.notify();
-            }
+            if (reader != null) this.readers.add(reader);
+            this.finish();
         }
     }
 
     @Override
-    public Connection connect() {
-        try {
-            if (this.connection == null || this.connection.isClosed())
-                this.connection = DriverManager.getConnection(this.connectionString);
-        } catch (SQLException ex) {
-            this.javaPlugin.getLogger().severe("An error occurred retrieving the SQLite database connection: " + ex.getMessage());
-        }
-        return this.connection;
+    public Connection connect() throws SQLException {
+        // Connections handed out directly are closed by whoever asked for them, so they are never shared
+        return this.open(false);
     }
 
     @Override
@@ -149,13 +205,332 @@ public class SQLiteConnector implements DatabaseConnector {
     @Override
     public void cleanup() {
         this.connect(connection -> {
-            try {
-                connection.createStatement().execute("VACUUM");
-            } catch (Exception e) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("PRAGMA optimize");
+            }
+        });
+
+        // Only rebuild the database when a large part of it is unused space, rather than every time the plugin is reloaded
+        this.read(connection -> {
+            try (Statement statement = connection.createStatement()) {
+                long free = this.queryLong(statement, "PRAGMA freelist_count");
+                long pages = this.queryLong(statement, "PRAGMA page_count");
+                if (pages == 0 || free * 4 < pages) return;
+            }
+
+            // VACUUM can't run inside a transaction, so it gets its own connection
+            try (Connection vacuum = this.open(false); Statement statement = vacuum.createStatement()) {
+                statement.execute("VACUUM");
+            } catch (SQLException ex) {
                 this.javaPlugin.getLogger().warning("Failed to run vacuum on database, unable to access temp directory: no read/write access.");
             }
-        }, false);
+        });
     }
 
-}
+    /**
+     * The writer thread, the writer connection is closed and any queued writes are failed once it stops
+     */
+    private void runWriter() {
+        try {
+            this.writeLoop();
+        } finally {
+            this.closeWriter();
+        }
+    }
+
+    /**
+     * Take every queued write and commit them together until the connector is closed
+     */
+    private void writeLoop() {
+        List<WriteTask> group = new ArrayList<>(MAX_GROUP_SIZE);
+        while (this.running || !this.writes.isEmpty()) {
+            try {
+                WriteTask first = this.writes.poll(1, TimeUnit.SECONDS);
+                if (first == null) continue;
+
+                group.add(first);
+                this.writes.drainTo(group, MAX_GROUP_SIZE - 1);
+                this.commit(group);
+            } catch (InterruptedException ex) {
+                this.javaPlugin.getLogger().severe("The SQLite writer was interrupted: " + ex.getMessage());
+            } finally {
+                group.forEach(x -> x.done().complete(false)); // Anything not committed was rolled back
+                group.clear();
+            }
+        }
+    }
 
+    /**
+     * Run a group of writes inside one transaction
+     *
+     * @param group The writes to run
+     */
+    private void commit(List<WriteTask> group) {
+        List<WriteTask> written = new ArrayList<>(group.size());
+        try {
+            Connection connection = this.getWriter();
+            for (WriteTask task : group) {
+                Savepoint savepoint = connection.setSavepoint();
+                try {
+                    task.callback().accept(this.cachedConnection);
+                    connection.releaseSavepoint(savepoint);
+                    written.add(task);
+                } catch (Exception ex) {
+                    connection.rollback(savepoint);
+                    this.javaPlugin.getLogger().severe("An error occurred executing an SQLite query: " + ex.getMessage());
+                    ex.printStackTrace();
+                }
+            }
+
+            connection.commit();
+            written.forEach(x -> x.done().complete(true));
+        } catch (SQLException ex) {
+            this.javaPlugin.getLogger().severe("An error occurred committing to the SQLite database: " + ex.getMessage());
+            try {
+                if (this.connection != null) this.connection.rollback();
+            } catch (SQLException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Run a write directly on the writer thread
+     *
+     * @param callback The write to run
+     *
+     * @return true if the write finished without an error
+     */
+    private boolean execute(ConnectionCallback callback) {
+        try {
+            this.getWriter();
+            callback.accept(this.cachedConnection);
+            return true;
+        } catch (Exception ex) {
+            this.javaPlugin.getLogger().severe("An error occurred executing an SQLite query: " + ex.getMessage());
+            ex.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Get the connection owned by the writer thread, opening it if needed
+     *
+     * @return The writer connection
+     *
+     * @throws SQLException If the connection could not be opened
+     */
+    private Connection getWriter() throws SQLException {
+        if (this.connection != null && !this.connection.isClosed()) return this.connection;
+
+        this.statements.clear();
+        this.connection = this.open(false);
+        this.connection.setAutoCommit(false);
+        this.cachedConnection = this.cacheStatements(this.connection);
+        return this.connection;
+    }
+
+    /**
+     * Close the writer connection and all its cached statements
+     */
+    private void closeWriter() {
+        // Nothing is left to take the queued writes, so they are failed instead of waiting forever
+        WriteTask task;
+        while ((task = this.writes.poll()) != null) {
+            task.done().complete(false);
+        }
+
+        for (PreparedStatement statement : this.statements.values()) {
+            try {
+                statement.close();
+            } catch (SQLException ignored) {
+            }
+        }
+
+        this.statements.clear();
+        try {
+            if (this.connection != null) this.connection.close();
+        } catch (SQLException ex) {
+            this.javaPlugin.getLogger().severe("An error occurred closing the SQLite database connection: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Take a connection from the read pool, opening a new one if the pool isn't full yet
+     *
+     * @return The read connection
+     *
+     * @throws SQLException If the connection could not be opened
+     * @throws InterruptedException If the thread was interrupted waiting for a connection
+     */
+    private Connection borrowReader() throws SQLException, InterruptedException {
+        while (true) {
+            Connection reader = this.readers.poll();
+            if (reader == null) {
+                if (this.createdReaders.incrementAndGet() <= READ_CONNECTIONS) return this.openReader();
+
+                this.createdReaders.decrementAndGet();
+                reader = this.readers.take();
+            }
+
+            if (!reader.isClosed()) return reader;
+            this.createdReaders.decrementAndGet(); // The closed reader is dropped, so another one can be opened in its place
+        }
+    }
+
+    /**
+     * Open a new connection for the read pool, the pool's slot is given back if the connection couldn't be opened
+     *
+     * @return The read connection
+     *
+     * @throws SQLException If the connection could not be opened
+     */
+    private Connection openReader() throws SQLException {
+        try {
+            return this.open(true);
+        } catch (SQLException ex) {
+            this.createdReaders.decrementAndGet();
+            throw ex;
+        }
+    }
+
+    /**
+     * Open a new connection to the database with the plugin's pragmas applied
+     *
+     * @param readOnly true if the connection should only be used for reading
+     *
+     * @return The new connection
+     *
+     * @throws SQLException If the connection could not be opened
+     */
+    private Connection open(boolean readOnly) throws SQLException {
+        Properties properties = new Properties();
+        if (readOnly) properties.setProperty("open_mode", "1"); // SQLITE_OPEN_READONLY
+
+        Connection result = DriverManager.getConnection(this.connectionString, properties);
+        try (Statement statement = result.createStatement()) {
+            statement.execute("PRAGMA busy_timeout = 5000");
+            if (!readOnly) {
+                statement.execute("PRAGMA journal_mode = WAL");
+                statement.execute("PRAGMA synchronous = NORMAL");
+                statement.execute("PRAGMA temp_store = MEMORY");
+                statement.execute("PRAGMA cache_size = -8000");
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Wrap the writer connection so every prepared statement is cached by its query,
+     * closing a cached statement only resets it so it can be used again.
+     *
+     * @param connection The connection to wrap
+     *
+     * @return The wrapped connection
+     */
+    private Connection cacheStatements(Connection connection) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("prepareStatement") && args != null && args.length == 1 && args[0] instanceof String sql) {
+                PreparedStatement statement = this.statements.get(sql);
+                if (statement == null || statement.isClosed()) {
+                    statement = connection.prepareStatement(sql);
+                    this.statements.put(sql, statement);
+                }
+
+                return this.reusable(statement);
+            }
+
+            // The writer thread is the only thing allowed to end the transaction or close the connection,
+            // a failed write is rolled back to its savepoint once the exception reaches the writer
+            switch (method.getName()) {
+                case "close", "commit", "setAutoCommit" -> {
+                    return null;
+                }
+                case "rollback" -> {
+                    if (args == null) return null;
+                }
+            }
+
+            return invoke(connection, method, args);
+        };
+
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class[]{ Connection.class }, handler);
+    }
+
+    /**
+     * Wrap a cached statement so closing it clears it instead
+     *
+     * @param statement The statement to wrap
+     *
+     * @return The wrapped statement
+     */
+    private PreparedStatement reusable(PreparedStatement statement) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getName().equals("close")) {
+                statement.clearBatch();
+                statement.clearParameters();
+                return null;
+            }
+
+            return invoke(statement, method, args);
+        };
+
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class[]{ PreparedStatement.class }, handler);
+    }
+
+    /**
+     * Call a method on the object being wrapped, passing along any exception it throws
+     *
+     * @param target The object being wrapped
+     * @param method The method to call
+     * @param args   The arguments of the method
+     *
+     * @return The result of the method
+     *
+     * @throws Throwable The exception thrown by the method
+     */
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Run a query that returns a single number
+     *
+     * @param statement The statement to run the query with
+     * @param query     The query to run
+     *
+     * @return The number returned by the query
+     *
+     * @throws SQLException If the query failed
+     */
+    private long queryLong(Statement statement, String query) throws SQLException {
+        try (ResultSet result = statement.executeQuery(query)) {
+            return result.next() ? result.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Mark a connection as finished and notify anything waiting for all connections to finish
+     */
+    private void finish() {
+        int open = this.openConnections.decrementAndGet();
+        synchronized (this.lock) {
+            if (open == 0)
+                this.lock.notify();
+        }
+    }
+
+    /**
+     * A write waiting for the writer thread
+     *
+     * @param callback The write to run
+     * @param done     Completed with true once the write has been committed, or false if it was rolled back
+     */
+    private record WriteTask(ConnectionCallback callback, CompletableFuture<Boolean> done) {
+    }
+
+}
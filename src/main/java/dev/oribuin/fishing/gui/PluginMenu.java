@@ -66,7 +66,7 @@ public abstract class PluginMenu<T extends BaseGui, Z extends GuiConfig> {
         if (this instanceof GuiTickable tickable) {
             long delay = tickable.getTickDelay().toSeconds();
 
-            this.task = PluginScheduler.get().runTaskTimerAsync(() -> {
+            this.task = PluginScheduler.get().runTaskTimerAsync(PluginScheduler.label("menu-tick", () -> {
                 // Gui doesn't exist, don't tick & cancel
                 if (this.gui == null) {
                     if (this.task != null) task.cancel();
@@ -80,7 +80,7 @@ public abstract class PluginMenu<T extends BaseGui, Z extends GuiConfig> {
                 }
 
                 tickable.tick();
-            }, delay, delay, TimeUnit.SECONDS);
+            }), delay, delay, TimeUnit.SECONDS);
         }
     }
 
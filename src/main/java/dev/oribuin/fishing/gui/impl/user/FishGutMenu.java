@@ -14,6 +14,7 @@ import dev.oribuin.fishing.model.economy.CurrencyRegistry;
 import dev.oribuin.fishing.model.fish.Fish;
 import dev.oribuin.fishing.model.fish.GuttedFish;
 import dev.oribuin.fishing.model.fish.Tier;
+import dev.oribuin.fishing.model.rod.RodProfile;
 import dev.oribuin.fishing.storage.Fisher;
 import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.Placeholders;
@@ -55,9 +56,9 @@ public class FishGutMenu extends PluginMenu<Gui, FishGutMenu.Config> {
         this.setDummyIcons(placeholders);
 
         // Add the strongest rod in the inventory
-        ItemStack strongest = plugin.getAugmentManager().getStrongestRod(player.getInventory());
+        RodProfile strongest = plugin.getRodManager().getStrongestRod(player);
         if (this.config.getRodSlot() != -1 && strongest != null) {
-            this.gui.setItem(this.config.getRodSlot(), new GuiItem(strongest, CANCELLED));
+            this.gui.setItem(this.config.getRodSlot(), new GuiItem(strongest.rod(), CANCELLED));
         }
 
         // region Place the gui items into the menu 
@@ -96,7 +97,7 @@ public class FishGutMenu extends PluginMenu<Gui, FishGutMenu.Config> {
                 return;
             }
 
-            Map<Augment, Integer> augments = plugin.getAugmentManager().getAugments(strongest);
+            Map<Augment, Integer> augments = strongest != null ? strongest.augments() : Map.of();
 
             FishGutEvent gutEvent = new FishGutEvent(
                     (Player) event.getWhoClicked(),
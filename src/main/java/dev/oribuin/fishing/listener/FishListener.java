@@ -9,13 +9,16 @@ import dev.oribuin.fishing.api.event.impl.FishGenerateEvent;
 import dev.oribuin.fishing.api.event.impl.InitialFishCatchEvent;
 import dev.oribuin.fishing.api.event.impl.RodCastEvent;
 import dev.oribuin.fishing.config.impl.PluginMessages;
-import dev.oribuin.fishing.model.augment.Augment;
 import dev.oribuin.fishing.model.fish.Fish;
+import dev.oribuin.fishing.model.fish.Tier;
+import dev.oribuin.fishing.model.rod.RodProfile;
 import dev.oribuin.fishing.model.totem.Totem;
 import dev.oribuin.fishing.storage.Fisher;
+import dev.oribuin.fishing.util.FishUtils;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.HandlerList;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerFishEvent;
 import org.bukkit.inventory.ItemStack;
@@ -24,7 +27,6 @@ import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 
 public class FishListener implements Listener {
@@ -39,30 +41,35 @@ public class FishListener implements Listener {
     public void onFish(PlayerFishEvent event) {
         if (event.getHand() == null) return;
 
-        ItemStack hand = event.getPlayer().getInventory().getItem(event.getHand()).clone();
-        Map<Augment, Integer> augments = this.plugin.getAugmentManager().getAugments(hand);
+        RodProfile profile = this.plugin.getRodManager().getProfile(event.getPlayer(), event.getHand());
         Totem nearby = this.plugin.getTotemManager().getClosestActive(event.getHook().getLocation());
 
         FishEventWrapper eventWrapper = new FishEventWrapper(
                 event.getPlayer(),
                 event.getHook(),
-                hand,
-                augments, nearby
+                profile.rod(),
+                profile.augments(), nearby
         );
         
         // TODO: Have rod rarity impact bites hm
         switch (event.getState()) {
             case FISHING -> this.handleCustomEvent(
+                    RodCastEvent.class,
+                    RodCastEvent.getHandlerList(),
                     () -> new RodCastEvent(event.getPlayer(), eventWrapper),
                     eventWrapper,
                     event
             );
             case BITE -> this.handleCustomEvent(
+                    FishBiteEvent.class,
+                    FishBiteEvent.getHandlerList(),
                     () -> new FishBiteEvent(event.getPlayer(), eventWrapper),
                     eventWrapper,
                     event
             );
             case FAILED_ATTEMPT -> this.handleCustomEvent(
+                    FailCatchEvent.class,
+                    FailCatchEvent.getHandlerList(),
                     () -> new FailCatchEvent(event.getPlayer(), eventWrapper),
                     eventWrapper,
                     event
@@ -75,12 +82,16 @@ public class FishListener implements Listener {
     /**
      * Handle a custom fishing event by passing it through the fish event wrapper & bukkit
      *
-     * @param supplier  The supplier for the event
-     * @param wrapper   The event wrapper
-     * @param fishEvent The fishing event it probably stems from
-     * @param <T>       THe type of event
+     * @param eventClass The class of the event
+     * @param handlers   The bukkit handlers for the event
+     * @param supplier   The supplier for the event
+     * @param wrapper    The event wrapper
+     * @param fishEvent  The fishing event it probably stems from
+     * @param <T>        THe type of event
      */
-    private <T extends Event> void handleCustomEvent(@NotNull Supplier<@NotNull T> supplier, @NotNull FishEventWrapper wrapper, @NotNull PlayerFishEvent fishEvent) {
+    private <T extends Event> void handleCustomEvent(@NotNull Class<T> eventClass, @NotNull HandlerList handlers, @NotNull Supplier<@NotNull T> supplier, @NotNull FishEventWrapper wrapper, @NotNull PlayerFishEvent fishEvent) {
+        if (!wrapper.isListening(eventClass, handlers)) return; // Nothing would change the result of the event
+
         T event = supplier.get();
         event.callEvent();
         wrapper.handleEvent(event);
@@ -99,15 +110,22 @@ public class FishListener implements Listener {
     private void catchNewFish(PlayerFishEvent event, FishEventWrapper wrapper) {
         // If caught no fish, do nothing
         List<Fish> caught = new ArrayList<>();
-        InitialFishCatchEvent catchEvent = new InitialFishCatchEvent(event.getPlayer(), wrapper);
+        int amountToCatch = 1;
+
+        // Only augments and totems can change the amount of fish caught
+        if (wrapper.isRegistered(InitialFishCatchEvent.class)) {
+            InitialFishCatchEvent catchEvent = new InitialFishCatchEvent(event.getPlayer(), wrapper);
+
+            // Run the augments onInitialCatch method
+            wrapper.handleEvent(catchEvent);
 
-        // Run the augments onInitialCatch method
-        wrapper.handleEvent(catchEvent);
+            // Cancel the event if it is cancelled
+            if (catchEvent.isCancelled()) return;
 
-        // Cancel the event if it is cancelled
-        if (catchEvent.isCancelled()) return;
+            amountToCatch = catchEvent.getAmountToCatch();
+        }
 
-        for (int i = 0; i < catchEvent.getAmountToCatch(); i++) {
+        for (int i = 0; i < amountToCatch; i++) {
             caught.add(this.generateFish(wrapper));
         }
 
@@ -116,23 +134,38 @@ public class FishListener implements Listener {
         int newFishExp = 0;
         int newEntropy = 0;
 
+        boolean listening = wrapper.isListening(FishCatchEvent.class, FishCatchEvent.getHandlerList());
         for (Fish fish : caught) {
             if (fish == null) continue;
 
-            FishCatchEvent fishCatchEvent = new FishCatchEvent(event.getPlayer(), wrapper, fish);
-            fishCatchEvent.setNaturalExp(naturalExp); // Set the base experience gained
-            fishCatchEvent.callEvent(); // call through bukkit
-
-            // Run the augments onInitialCatch method
-            if (!wrapper.augments().isEmpty()) wrapper.augments().keySet().forEach(augment -> augment.handleEvent(fishCatchEvent));
-            if (wrapper.totem() != null && wrapper.totem().isActive()) wrapper.totem().handleEvent(fishCatchEvent);
-
-            if (fishCatchEvent.isCancelled()) continue; // If the event is cancelled, do nothing
+            float catchNaturalExp = naturalExp;
+            int catchExp;
+            int catchEntropy;
+
+            if (listening) {
+                FishCatchEvent fishCatchEvent = new FishCatchEvent(event.getPlayer(), wrapper, fish);
+                fishCatchEvent.setNaturalExp(naturalExp); // Set the base experience gained
+                fishCatchEvent.callEvent(); // call through bukkit
+
+                // Run the augments onInitialCatch method
+                wrapper.handleEvent(fishCatchEvent);
+
+                if (fishCatchEvent.isCancelled()) continue; // If the event is cancelled, do nothing
+
+                // Use the event values because they could have been modified
+                catchNaturalExp = fishCatchEvent.getNaturalExp();
+                catchExp = fishCatchEvent.getCatchExp();
+                catchEntropy = fishCatchEvent.getCatchEntropy();
+            } else {
+                // Nothing can modify the rewards, use the base values of the tier
+                Tier tier = fish.getTierInstance();
+                catchExp = tier.getCatchExperience();
+                catchEntropy = tier.getCatchEntropy();
+            }
 
-            // Use the event values because they could have been modified
-            naturalExp += fishCatchEvent.getNaturalExp();
-            newFishExp += fishCatchEvent.getCatchExp();
-            newEntropy += fishCatchEvent.getCatchEntropy();
+            naturalExp += catchNaturalExp;
+            newFishExp += catchExp;
+            newEntropy += catchEntropy;
 
             // Tell the player they caught a fish
 
@@ -154,8 +187,8 @@ public class FishListener implements Listener {
 
         // Append the new exp and entropy to the player
         event.setExpToDrop((int) naturalExp);
-        fisher.setExperience(fisher.getExperience() + newFishExp);
-        fisher.setEntropy(fisher.getEntropy() + newEntropy);
+        fisher.addExperience(newFishExp);
+        fisher.addEntropy(newEntropy);
 
         // Level up the player if they have enough experience
         if (fisher.canLevelUp()) {
@@ -175,6 +208,10 @@ public class FishListener implements Listener {
      * @return The fish the player caught
      */
     private Fish generateFish(FishEventWrapper wrapper) {
+        if (!wrapper.isListening(FishGenerateEvent.class, FishGenerateEvent.getHandlerList())) {
+            return this.plugin.getTierManager().generateFish(FishUtils.RANDOM.nextDouble(100), wrapper);
+        }
+
         FishGenerateEvent event = new FishGenerateEvent(wrapper.player(), wrapper);
         event.callEvent(); // Call the fish generation event
 
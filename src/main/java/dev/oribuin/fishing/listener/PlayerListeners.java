@@ -1,39 +1,83 @@
 package dev.oribuin.fishing.listener;
 
+import com.destroystokyo.paper.event.player.PlayerConnectionCloseEvent;
 import dev.oribuin.fishing.FishingPlugin;
-import dev.oribuin.fishing.manager.DataManager;
-import dev.oribuin.fishing.storage.Fisher;
+import dev.oribuin.fishing.config.TextMessage;
+import dev.oribuin.fishing.config.impl.PluginMessages;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
-import java.util.concurrent.CompletableFuture;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class PlayerListeners implements Listener {
 
     private final FishingPlugin plugin;
+    private final Set<UUID> preloaded;
 
     public PlayerListeners(FishingPlugin plugin) {
         this.plugin = plugin;
+        this.preloaded = ConcurrentHashMap.newKeySet();
     }
 
     /**
-     * Load the player's data when they join the server
+     * Load the player's data before they join the server, this runs off the main thread so the player can wait for it.
+     * The player isn't allowed to join if their data couldn't be loaded.
+     *
+     * @param event The pre-login event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() != AsyncPlayerPreLoginEvent.Result.ALLOWED) return;
+
+        // Only remember the players this login loaded, a player who is already online keeps their data if this login is denied
+        if (this.plugin.getDataManager().get(event.getUniqueId()) == null) this.preloaded.add(event.getUniqueId());
+
+        try {
+            this.plugin.getDataManager().load(event.getUniqueId()).get(10, TimeUnit.SECONDS);
+            return;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException ex) {
+            this.plugin.getLogger().warning("Failed to load the data for " + event.getName() + " before they joined: " + ex.getMessage());
+        }
+
+        // A load that timed out could still finish, so it's removed again if this login started it
+        if (this.preloaded.remove(event.getUniqueId())) this.plugin.getDataManager().unloadUser(event.getUniqueId());
+
+        TextMessage message = PluginMessages.get().getFailedToLoad();
+        event.disallow(AsyncPlayerPreLoginEvent.Result.KICK_OTHER, message.parse(message.message()));
+    }
+
+    /**
+     * Make sure the player's data is loaded when they join the server, in case it wasn't loaded before they joined
      *
      * @param event The join event
      */
-    @EventHandler(ignoreCancelled = true, priority = EventPriority.HIGHEST)
+    @EventHandler(priority = EventPriority.HIGHEST)
     public void onJoin(PlayerJoinEvent event) {
-        DataManager manager = this.plugin.getDataManager();
-
-        CompletableFuture.runAsync(() -> manager.loadUser(event.getPlayer().getUniqueId()))
-                .thenRun(() -> {
-                    // create a new Fisher object if the player is not found
-                    Fisher fisher = manager.get(event.getPlayer().getUniqueId());
-                    if (fisher == null) manager.saveUser(new Fisher(event.getPlayer().getUniqueId()));
-                });
+        this.preloaded.remove(event.getPlayer().getUniqueId());
+        this.plugin.getDataManager().load(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Remove the player's data if it was loaded before they joined, but the connection closed before they joined.
+     * This covers logins that were denied after the data was loaded and players who left while logging in.
+     *
+     * @param event The connection close event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onConnectionClose(PlayerConnectionCloseEvent event) {
+        UUID uuid = event.getPlayerUniqueId();
+        if (this.preloaded.remove(uuid)) this.plugin.getDataManager().unloadUser(uuid);
     }
 
     /**
@@ -43,11 +87,8 @@ public class PlayerListeners implements Listener {
      */
     @EventHandler(priority = EventPriority.LOWEST)
     public void onQuit(PlayerQuitEvent event) {
-        DataManager manager = this.plugin.getDataManager();
-        Fisher fisher = manager.get(event.getPlayer().getUniqueId());
-        if (fisher == null) return;
-
-        manager.saveUser(fisher); // Clear the user's data.
-        manager.getAll().remove(event.getPlayer().getUniqueId()); // Remove the player from the cache
+        // Save the user's data if it changed and remove the player from the cache
+        this.preloaded.remove(event.getPlayer().getUniqueId());
+        this.plugin.getDataManager().unloadUser(event.getPlayer().getUniqueId());
     }
 }
@@ -0,0 +1,133 @@
+package dev.oribuin.fishing.listener;
+
+import dev.oribuin.fishing.FishingPlugin;
+import dev.oribuin.fishing.manager.RodManager;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityPickupItemEvent;
+import org.bukkit.event.entity.PlayerDeathEvent;
+import org.bukkit.event.inventory.InventoryAction;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.player.PlayerDropItemEvent;
+import org.bukkit.event.player.PlayerItemBreakEvent;
+import org.bukkit.event.player.PlayerItemHeldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.player.PlayerSwapHandItemsEvent;
+import org.bukkit.inventory.PlayerInventory;
+
+/**
+ * Clears the cached fishing rod of a player whenever the item they're holding could have changed
+ */
+public class RodListeners implements Listener {
+
+    private final RodManager manager;
+
+    public RodListeners(FishingPlugin plugin) {
+        this.manager = plugin.getRodManager();
+    }
+
+    /**
+     * Invalidate the cached rod when the player switches their held item
+     *
+     * @param event The held item event
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onItemHeld(PlayerItemHeldEvent event) {
+        this.manager.invalidate(event.getPlayer());
+    }
+
+    /**
+     * Invalidate the cached rod when the player swaps their main and off hand
+     *
+     * @param event The swap hand event
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onSwapHands(PlayerSwapHandItemsEvent event) {
+        this.manager.invalidate(event.getPlayer());
+    }
+
+    /**
+     * Invalidate the cached rod when the player clicks an item that could end up in their held slot
+     *
+     * @param event The inventory click event
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onInventoryClick(InventoryClickEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) return;
+
+        boolean affectsPlayer = event.getClickedInventory() instanceof PlayerInventory
+                || event.isShiftClick()
+                || event.getHotbarButton() != -1
+                || event.getAction() == InventoryAction.COLLECT_TO_CURSOR;
+
+        if (affectsPlayer) this.manager.invalidate(player);
+    }
+
+    /**
+     * Invalidate the cached rod when the player drags items across their inventory
+     *
+     * @param event The inventory drag event
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onInventoryDrag(InventoryDragEvent event) {
+        if (!(event.getWhoClicked() instanceof Player player)) return;
+
+        this.manager.invalidate(player);
+    }
+
+    /**
+     * Invalidate the cached rod when the player drops an item
+     *
+     * @param event The drop item event
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onDrop(PlayerDropItemEvent event) {
+        this.manager.invalidate(event.getPlayer());
+    }
+
+    /**
+     * Invalidate the cached rod when the player picks up an item, it could be placed in an empty held slot
+     *
+     * @param event The pickup event
+     */
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public void onPickup(EntityPickupItemEvent event) {
+        if (!(event.getEntity() instanceof Player player)) return;
+
+        this.manager.invalidate(player);
+    }
+
+    /**
+     * Invalidate the cached rod when the held item breaks
+     *
+     * @param event The item break event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onBreak(PlayerItemBreakEvent event) {
+        this.manager.invalidate(event.getPlayer());
+    }
+
+    /**
+     * Invalidate the cached rod when the player dies and drops their inventory
+     *
+     * @param event The death event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onDeath(PlayerDeathEvent event) {
+        this.manager.invalidate(event.getPlayer());
+    }
+
+    /**
+     * Remove the cached rod when the player leaves the server
+     *
+     * @param event The quit event
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        this.manager.invalidate(event.getPlayer());
+    }
+
+}
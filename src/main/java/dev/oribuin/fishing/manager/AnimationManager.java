@@ -0,0 +1,102 @@
+package dev.oribuin.fishing.manager;
+
+import dev.oribuin.fishing.FishingPlugin;
+import dev.oribuin.fishing.config.impl.Config;
+import dev.oribuin.fishing.model.cosmetic.animation.AnimationEffect;
+import dev.oribuin.fishing.scheduler.PluginScheduler;
+import dev.oribuin.fishing.scheduler.task.ScheduledTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Plays every particle effect in the plugin from a single repeating task.
+ * <p>
+ * Each tick, the effects that are due are displayed until the particle budget from {@link Config} runs out,
+ * any effects that didn't get a turn, or only sent part of a frame, are displayed first on the next tick. Effects are removed once they have finished
+ * so nothing needs to be cancelled.
+ */
+public class AnimationManager implements Manager {
+
+    private final FishingPlugin plugin;
+    private final Queue<AnimationEffect> effects;
+    private ScheduledTask task;
+
+    public AnimationManager(FishingPlugin plugin) {
+        this.plugin = plugin;
+        this.effects = new ConcurrentLinkedQueue<>();
+        this.task = null;
+    }
+
+    /**
+     * The task that runs when the plugin is loaded/reloaded
+     *
+     * @param plugin The plugin reloading
+     */
+    @Override
+    public void reload(FishingPlugin plugin) {
+        if (this.task != null) this.task.cancel();
+
+        this.task = PluginScheduler.get().runTaskTimerAsync(PluginScheduler.label("effect", this::tick), 1, 1);
+    }
+
+    /**
+     * The task that runs when the plugin is disabled, usually takes priority over {@link Manager#reload(FishingPlugin)}
+     *
+     * @param plugin The plugin being disabled
+     */
+    @Override
+    public void disable(FishingPlugin plugin) {
+        this.task = PluginScheduler.cancelNull(this.task);
+        this.effects.clear();
+    }
+
+    /**
+     * Start playing a particle effect
+     *
+     * @param effect The effect to play
+     */
+    public void play(@NotNull AnimationEffect effect) {
+        effect.start(System.currentTimeMillis());
+        this.effects.add(effect);
+    }
+
+    /**
+     * Display the next frame of every effect that is due, within the particle budget
+     */
+    private void tick() {
+        if (this.effects.isEmpty()) return;
+
+        Config config = Config.get();
+        long now = System.currentTimeMillis();
+        int budget = config.getParticleBudget();
+        int remaining = this.effects.size();
+
+        while (remaining-- > 0 && budget > 0) {
+            AnimationEffect effect = this.effects.poll();
+            if (effect == null) break;
+
+            if (effect.hasPending() || effect.isDue(now)) {
+                budget -= effect.render(now, budget, config.getParticleDetailDistance());
+            }
+
+            // Effects are moved to the back of the queue so every effect gets a turn when the budget runs out
+            if (!effect.isFinished(now)) this.effects.add(effect);
+        }
+    }
+
+    /**
+     * Get the amount of effects that are currently playing
+     *
+     * @return The amount of effects
+     */
+    public int getRunning() {
+        return this.effects.size();
+    }
+
+    public FishingPlugin getPlugin() {
+        return plugin;
+    }
+
+}
@@ -16,6 +16,7 @@ import dev.oribuin.fishing.model.loot.LootRegistry;
 import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.Placeholders;
 import dev.oribuin.fishing.util.math.RomanNumber;
+import io.papermc.paper.persistence.PersistentDataContainerView;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Material;
 import org.bukkit.inventory.Inventory;
@@ -31,8 +32,8 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 
 import static dev.oribuin.fishing.storage.util.KeyRegistry.AUGMENT_LEVEL;
 import static dev.oribuin.fishing.storage.util.KeyRegistry.AUGMENT_TYPE;
@@ -41,7 +42,8 @@ public class AugmentManager implements Manager {
 
     private static final File AUGMENTS_FOLDER = new File(FishingPlugin.get().getDataFolder(), "augments");
     private static final ConfigLoader loader = new ConfigLoader(AUGMENTS_FOLDER.toPath());
-    private static final Map<String, Supplier<? extends Augment>> augments = new HashMap<>();
+    private static final Map<String, Augment> augments = new ConcurrentHashMap<>();
+    private static final Map<String, Supplier<? extends Augment>> factories = new ConcurrentHashMap<>();
     private final FishingPlugin plugin;
 
     public AugmentManager(FishingPlugin plugin) {
@@ -78,10 +80,13 @@ public class AugmentManager implements Manager {
     public void disable(FishingPlugin plugin) {
         loader.close();
         augments.clear();
+        factories.clear();
     }
 
     /**
      * Loads an augment into the registry to be used in the plugin and caches it.
+     * <p>
+     * The loaded augment is shared across every fishing rod, the getters in this class only ever hand out copies of it.
      *
      * @param identifier   The identifier for the augment
      * @param augmentClass The augment to register
@@ -90,7 +95,8 @@ public class AugmentManager implements Manager {
     public static <T extends Augment> void register(String identifier, Class<T> augmentClass) {
         T augment = loader.loadConfig(augmentClass, identifier);
 
-        augments.put(identifier.toLowerCase(), () -> loader.getClone(augmentClass));
+        augments.put(identifier.toLowerCase(), augment);
+        factories.put(identifier.toLowerCase(), () -> loader.getClone(augmentClass));
         LootRegistry.register(
                 "augment_" + identifier.toLowerCase(),
                 augment::getDisplayItem,
@@ -102,17 +108,44 @@ public class AugmentManager implements Manager {
     }
 
     /**
-     * Get an augment from the registry by its name
+     * Get an augment from the registry by its name, this is a new copy so it can be modified freely
      *
      * @param identifier The name of the augment
      *
      * @return The augment
      */
-    @SuppressWarnings("unchecked")
     public <T extends Augment> T getAugment(String identifier) {
+        return this.createAugment(identifier);
+    }
+
+    /**
+     * Check if a fishing rod has a registered augment at or above a level, without copying the augment
+     *
+     * @param equipped   The augments equipped on the fishing rod and their levels
+     * @param identifier The name of the augment
+     * @param level      The minimum level of the augment
+     *
+     * @return true if the augment is registered and equipped at the level or higher
+     */
+    public boolean hasAugment(Map<Augment, Integer> equipped, String identifier, int level) {
+        if (identifier == null) return false;
+
+        Augment augment = augments.get(identifier);
+        return augment != null && augment.getLevel(equipped) >= level;
+    }
+
+    /**
+     * Create a new copy of an augment from its configuration, used when the level of the augment needs to be changed
+     *
+     * @param identifier The name of the augment
+     *
+     * @return The new augment
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Augment> T createAugment(String identifier) {
         if (identifier == null) return null;
 
-        Supplier<? extends Augment> supplier = augments.get(identifier);
+        Supplier<? extends Augment> supplier = factories.get(identifier);
         if (supplier == null) return null;
 
         return (T) supplier.get();
@@ -121,15 +154,12 @@ public class AugmentManager implements Manager {
     /**
      * Obtain all the augments in the registry as a map
      *
-     * @return The map of all augments in the registry
+     * @return A copy of every augment in the registry
      */
     public Map<String, Augment> getAugments() {
-        return augments.entrySet().stream()
-                .map(x -> Map.entry(x.getKey(), x.getValue()))
-                .collect(Collectors.toMap(
-                        Map.Entry::getKey,
-                        entry -> entry.getValue().get()
-                ));
+        Map<String, Augment> result = new HashMap<>();
+        factories.forEach((identifier, factory) -> result.put(identifier, factory.get()));
+        return result;
     }
 
     /**
@@ -151,7 +181,7 @@ public class AugmentManager implements Manager {
         String identifier = container.get(AUGMENT_TYPE.key(), AUGMENT_TYPE);
         int level = container.getOrDefault(AUGMENT_LEVEL.key(), AUGMENT_LEVEL, 1);
 
-        Augment augment = this.plugin.getAugmentManager().getAugment(identifier);
+        Augment augment = this.createAugment(identifier);
         if (augment != null) augment.setLevel(level);
         return augment;
     }
@@ -198,6 +228,7 @@ public class AugmentManager implements Manager {
         });
 
         itemStack.setItemMeta(meta);
+        this.plugin.getRodManager().invalidateAll(); // The rod may be cached by a player
     }
 
     /**
@@ -209,26 +240,19 @@ public class AugmentManager implements Manager {
      */
     @NotNull
     public Map<Augment, Integer> getAugments(@Nullable ItemStack itemStack) {
-        if (itemStack == null) return new HashMap<>();
-
-        ItemMeta meta = itemStack.getItemMeta();
-        if (meta == null) return new HashMap<>();
+        if (itemStack == null || itemStack.getType().isAir()) return new HashMap<>();
 
-        PersistentDataContainer container = meta.getPersistentDataContainer();
+        // Read the container directly, avoids copying the entire item meta
+        PersistentDataContainerView container = itemStack.getPersistentDataContainer();
 
-        // Load the augments from the item meta
+        // Load the augments from the item, the registered augments are shared so only the level is item specific
         Map<Augment, Integer> result = new HashMap<>();
-        augments.forEach((name, supplier) -> {
-            Augment augment = supplier.get();
-            if (augment == null) return;
-
+        for (Augment augment : augments.values()) {
             Integer level = container.get(augment.getNamespace(), PersistentDataType.INTEGER);
-            if (level == null || level <= 0) return;
-
-            augment.setLevel(level);
+            if (level == null || level <= 0) continue;
 
             result.put(augment, Math.min(level, augment.getMaxLevel())); // Use the maximum level of the augment
-        });
+        }
 
         return result;
     }
@@ -2,12 +2,14 @@ package dev.oribuin.fishing.manager;
 
 import com.google.gson.Gson;
 import dev.oribuin.fishing.FishingPlugin;
+import dev.oribuin.fishing.config.impl.Config;
 import dev.oribuin.fishing.config.impl.MySQLConfig;
 import dev.oribuin.fishing.database.connector.DatabaseConnector;
 import dev.oribuin.fishing.database.connector.MySQLConnector;
 import dev.oribuin.fishing.database.connector.SQLiteConnector;
 import dev.oribuin.fishing.model.totem.Totem;
 import dev.oribuin.fishing.scheduler.PluginScheduler;
+import dev.oribuin.fishing.scheduler.task.ScheduledTask;
 import dev.oribuin.fishing.storage.Fisher;
 import org.bukkit.Bukkit;
 import org.bukkit.entity.ArmorStand;
@@ -19,25 +21,50 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
 
 public class DataManager implements Manager {
 
     private static final String USERS_PREFIX = "fishingplugin_users";
     private static final String TOTEMS_PREFIX = "fishingplugin_totems";
     private static final Gson GSON = new Gson();
+    private static final int LOAD_CHUNK_SIZE = 100;
+    private static final int SAVE_CHUNK_SIZE = 500;
+    private static final int SQLITE_LANE_SIZE = 4;
 
     private final FishingPlugin plugin;
     private final Map<UUID, Fisher> userData;
+    private final Map<UUID, CompletableFuture<Fisher>> loading;
+    private final Map<UUID, CompletableFuture<Void>> saving;
+    private final Set<CompletableFuture<Void>> writes;
     private DatabaseConnector connector;
+    private CompletableFuture<Void> ready;
+    private ScheduledTask flushTask;
+    private volatile FlushStats lastFlush;
 
     public DataManager(FishingPlugin plugin) {
         this.plugin = plugin;
-        this.userData = new HashMap<>();
+        this.userData = new ConcurrentHashMap<>();
+        this.loading = new ConcurrentHashMap<>();
+        this.saving = new ConcurrentHashMap<>();
+        this.writes = ConcurrentHashMap.newKeySet();
+        this.ready = CompletableFuture.completedFuture(null);
+        this.flushTask = null;
     }
 
     /**
@@ -47,6 +74,7 @@ public class DataManager implements Manager {
      */
     public void reload(FishingPlugin plugin) {
         this.disable(plugin);
+        Config.get().getLevelCurve(); // Calculate the level curve before any users are loaded
 
         MySQLConfig sqlConfig = MySQLConfig.get();
         if (sqlConfig.isEnabled()) {
@@ -59,31 +87,37 @@ public class DataManager implements Manager {
             int poolSize = sqlConfig.getConnectionPoolSize();
 
             this.connector = new MySQLConnector(this.plugin, hostname, port, database, username, password, useSSL, poolSize);
+            PluginScheduler.get().getDatabaseLane().resize(poolSize); // Never wait on the pool for a connection
             this.plugin.getLogger().info("Data manager connected using MySQL.");
         } else {
             this.connector = new SQLiteConnector(this.plugin);
-            this.connector.cleanup();
+            PluginScheduler.get().getDatabaseLane().resize(SQLITE_LANE_SIZE); // Enough for the readers and the writer queue
             this.plugin.getLogger().info("Data manager connected using SQLite.");
         }
 
-        // Create the initial table for the plugin
-        this.connector.connect(connection -> {
-            try (Statement statement = connection.createStatement()) {
-                statement.addBatch(CREATE_TABLE_USERS);
-                statement.addBatch(CREATE_TABLE_TOTEMS);
-                statement.executeBatch();
-            }
+        // Clean up the database and create the initial tables off the main thread, anything reading waits for them
+        DatabaseConnector connector = this.connector;
+        this.ready = this.asyncWrite("db-setup", () -> {
+            connector.cleanup();
+            connector.connect(connection -> {
+                try (Statement statement = connection.createStatement()) {
+                    statement.addBatch(CREATE_TABLE_USERS);
+                    statement.addBatch(CREATE_TABLE_TOTEMS);
+                    statement.executeBatch();
+                }
+            });
         });
 
-        this.saveBatch(this.userData.values());
-        this.userData.clear(); // Clear the map
-
-        // Load all the users who are currently online
-        Collection<UUID> uuids = Bukkit.getOnlinePlayers().stream().map(Player::getUniqueId).toList();
-        this.loadBatch(uuids);
-
-        // Load all the totems in the plugin 
+        // Online players stay cached so their data is never missing, they are refreshed from the database instead.
+        // Anyone else was saved when the manager was disabled, unless their save failed
+        Set<UUID> online = Bukkit.getOnlinePlayers().stream().map(Player::getUniqueId).collect(Collectors.toSet());
+        this.userData.values().removeIf(x -> !online.contains(x.getUUID()) && !x.isDirty());
+        this.loading.clear();
+        this.refreshBatch(online);
 
+        // Save any changed users in the background
+        long interval = Math.max(1, Config.get().getSaveInterval().toMillis());
+        this.flushTask = PluginScheduler.get().runTaskTimerAsync(PluginScheduler.label("db-flush", () -> this.asyncWrite("db-save", this::flush)), interval, interval, TimeUnit.MILLISECONDS);
     }
 
     /**
@@ -92,7 +126,16 @@ public class DataManager implements Manager {
      * @param plugin The plugin being disabled
      */
     public void disable(FishingPlugin plugin) {
+        this.flushTask = PluginScheduler.cancelNull(this.flushTask);
+
         if (this.connector != null) {
+            // Let the writes already queued on the database lane finish first, so none of them run after the connection is closed
+            this.awaitWrites(5, TimeUnit.SECONDS);
+
+            // Save any users who have changed before closing the connection
+            List<PendingSave> changed = this.collectDirty(this.userData.values());
+            this.write(changed);
+
             // Wait for all connections to finish
             long now = System.currentTimeMillis();
             long deadline = now + 5000;
@@ -112,38 +155,142 @@ public class DataManager implements Manager {
     }
 
     /**
-     * Get a user's data from the cache or database if not found
+     * Wait for every write that is queued or running on the database lane to finish
+     *
+     * @param timeout  The maximum time to wait
+     * @param timeUnit The unit of the timeout
+     */
+    private void awaitWrites(long timeout, TimeUnit timeUnit) {
+        try {
+            CompletableFuture.allOf(this.writes.toArray(CompletableFuture[]::new)).get(timeout, timeUnit);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ignored) {
+            // The write has already logged its own error
+        } catch (TimeoutException ex) {
+            this.plugin.getLogger().warning("Timed out waiting for " + this.writes.size() + " database writes to finish.");
+        }
+    }
+
+    /**
+     * Get a user's data from the cache, this will never wait for the user to be loaded
      *
      * @param uuid The user's UUID
      *
-     * @return The user's data
+     * @return The user's data, null if the user hasn't been loaded yet
      */
     public Fisher get(UUID uuid) {
         return this.userData.get(uuid);
     }
 
     /**
-     * Save a user's data to the database and cache
+     * Get a user's data from the cache, or load them from the database if they aren't cached.
+     * Only one load runs for each user at a time, anything asking for the same user while it's loading shares the same future.
+     * If the user is still being saved after leaving, the load waits for the save so it never reads their old data.
      *
-     * @param fisher The user to save
+     * @param uuid The user's UUID
+     *
+     * @return The future that completes with the user's data
      */
-    public void saveUser(Fisher fisher) {
-        this.userData.put(fisher.getUUID(), fisher);
+    public CompletableFuture<Fisher> load(UUID uuid) {
+        Fisher cached = this.userData.get(uuid);
+        if (cached != null) return CompletableFuture.completedFuture(cached);
+
+        CompletableFuture<Fisher> future = new CompletableFuture<>();
+        CompletableFuture<Fisher> existing = this.loading.putIfAbsent(uuid, future);
+        if (existing != null) return existing;
+
+        CompletableFuture<Void> saving = this.saving.getOrDefault(uuid, CompletableFuture.completedFuture(null));
+        CompletableFuture.allOf(this.ready, saving).whenComplete((ignored, ex) -> this.async("db-load", () -> {
+            // A user whose save failed is put back in the cache with their changes
+            Fisher restored = this.userData.get(uuid);
+            if (restored != null) {
+                this.loading.remove(uuid, future);
+                future.complete(restored);
+                return;
+            }
+
+            AtomicReference<Fisher> result = new AtomicReference<>();
+            this.connector.read(connection -> result.set(this.selectUser(uuid, connection)));
+
+            Fisher fisher = result.get();
+            if (fisher == null) {
+                this.loading.remove(uuid, future);
+                future.completeExceptionally(new IllegalStateException("Failed to load the data for " + uuid));
+                return;
+            }
 
-        this.async(() -> this.connector.connect(connection -> {
-            try (PreparedStatement statement = connection.prepareStatement(SAVE_USER)) {
-                this.saveUser(fisher, statement);
+            // Don't cache the user if they were unloaded while they were loading
+            if (this.loading.remove(uuid, future)) {
+                Fisher current = this.userData.putIfAbsent(uuid, fisher);
+                if (current != null) fisher = current;
             }
+
+            future.complete(fisher);
         }));
+
+        return future;
     }
 
     /**
-     * Get a user's data from the cache
+     * Save a user's data to the cache, the user will be written to the database the next time the manager flushes
+     *
+     * @param fisher The user to save
+     */
+    public void saveUser(Fisher fisher) {
+        this.userData.put(fisher.getUUID(), fisher);
+        fisher.markDirty();
+    }
+
+    /**
+     * Remove a user from the cache and write them to the database straight away if they have changed,
+     * the user is only put back in the cache if the save fails so their changes are written on the next flush
      *
      * @param uuid The user's UUID
      */
-    public void loadUser(UUID uuid) {
-        this.async(() -> this.connector.connect(x -> this.loadUser(uuid, x)));
+    public void unloadUser(UUID uuid) {
+        this.loading.remove(uuid);
+
+        Fisher fisher = this.userData.remove(uuid);
+        if (fisher == null) return;
+
+        Fisher.Changes changes = fisher.markClean();
+        if (changes == null) return;
+
+        List<PendingSave> changed = List.of(new PendingSave(fisher, changes));
+        CompletableFuture<Void> future = this.asyncWrite("db-save", () -> {
+            this.write(changed);
+            if (fisher.isDirty()) this.userData.putIfAbsent(uuid, fisher);
+        });
+
+        this.saving.put(uuid, future);
+        future.whenComplete((result, ex) -> this.saving.remove(uuid, future));
+    }
+
+    /**
+     * Write every user who has changed since the last flush to the database in a single batch
+     */
+    public void flush() {
+        if (this.connector == null) return;
+
+        this.write(this.collectDirty(this.userData.values()));
+    }
+
+    /**
+     * Find all the users who have changed and mark them as saved
+     *
+     * @param fishers The users to check
+     *
+     * @return The users that need to be written
+     */
+    private List<PendingSave> collectDirty(Collection<Fisher> fishers) {
+        List<PendingSave> changed = new ArrayList<>();
+        for (Fisher fisher : fishers) {
+            Fisher.Changes changes = fisher.markClean();
+            if (changes != null) changed.add(new PendingSave(fisher, changes));
+        }
+
+        return changed;
     }
 
     /**
@@ -152,21 +299,135 @@ public class DataManager implements Manager {
      * @param fishers The users to save
      */
     public void saveBatch(Collection<Fisher> fishers) {
-        fishers.forEach(x -> this.userData.put(x.getUUID(), x));
+        List<PendingSave> saves = new ArrayList<>(fishers.size());
+        for (Fisher fisher : fishers) {
+            this.userData.put(fisher.getUUID(), fisher);
+            fisher.markDirty();
+            saves.add(new PendingSave(fisher, fisher.markClean()));
+        }
+
+        this.asyncWrite("db-save", () -> this.write(saves));
+    }
+
+    /**
+     * Write a collection of users to the database, if the write is rolled back the changes are given back to the users
+     * so they are written again on the next flush
+     *
+     * @param saves The users to write
+     */
+    private void write(List<PendingSave> saves) {
+        if (saves.isEmpty()) return;
+
+        long start = System.nanoTime();
+        AtomicReference<WriteResult> result = new AtomicReference<>();
+        if (this.connector.write(connection -> result.set(this.writeBatch(saves, connection)))) {
+            // Only recorded once the connector has committed, a rolled back write never shows up as saved
+            long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            this.lastFlush = new FlushStats(saves.size(), result.get().batches(), millis, System.currentTimeMillis());
+            this.plugin.getLogger().fine("Saved " + saves.size() + " users (" + result.get().inserted() + " new) in " + result.get().batches() + " batches in " + millis + "ms.");
+            return;
+        }
 
-        this.async(() -> this.connector.connect(connection -> {
-            try (PreparedStatement statement = connection.prepareStatement(SAVE_USER)) {
-                for (Fisher fisher : fishers) {
-                    this.saveUser(fisher, statement);
+        saves.forEach(save -> save.fisher().restore(save.changes()));
+        this.plugin.getLogger().warning("Failed to save " + saves.size() + " users, their changes will be saved again on the next flush.");
+    }
+
+    /**
+     * Write a collection of users to the database in a single transaction, the rows are sent in chunks of batched statements.
+     * Entropy, experience and skill points are always updated by adding the difference to the database, so servers sharing
+     * the same database don't overwrite each other. Users who aren't in the database yet are inserted with the values they were saved at.
+     *
+     * @param saves      The users to write
+     * @param connection The Connection to the database
+     *
+     * @return The amount of batches sent and users inserted
+     *
+     * @throws SQLException The exception which is going to be caught by the DatabaseConnector
+     */
+    private WriteResult writeBatch(Collection<PendingSave> saves, Connection connection) throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        if (autoCommit) connection.setAutoCommit(false); // The connector may have already started a transaction
+
+        List<PendingSave> updates = new ArrayList<>(saves);
+        List<PendingSave> inserts = new ArrayList<>();
+        int batches = 0;
+        try {
+            try (PreparedStatement statement = connection.prepareStatement(UPDATE_USER)) {
+                batches += this.executeChunked(statement, updates, this::bindUpdate, inserts);
+            }
 
-                    // Add this statement as a batch
-                    statement.addBatch();
+            if (!inserts.isEmpty()) {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_USER)) {
+                    batches += this.executeChunked(statement, inserts, this::bindUser, null);
                 }
+            }
+
+            if (autoCommit) connection.commit();
+        } catch (SQLException ex) {
+            if (autoCommit) connection.rollback();
+            throw ex;
+        } finally {
+            if (autoCommit) connection.setAutoCommit(true);
+        }
+
+        return new WriteResult(batches, inserts.size());
+    }
+
+    /**
+     * Bind and execute every save in chunks of batched statements
+     *
+     * @param statement The statement to execute
+     * @param saves     The saves to write
+     * @param binder    The function that binds a save into the statement
+     * @param missing   The list to add any save that didn't change a row to, null to ignore them
+     *
+     * @return The amount of batches executed
+     *
+     * @throws SQLException The exception which is going to be caught by the DatabaseConnector
+     */
+    private int executeChunked(PreparedStatement statement, List<PendingSave> saves, SaveBinder binder, List<PendingSave> missing) throws SQLException {
+        int batches = 0;
+        for (int start = 0; start < saves.size(); start += SAVE_CHUNK_SIZE) {
+            List<PendingSave> chunk = saves.subList(start, Math.min(start + SAVE_CHUNK_SIZE, saves.size()));
+            for (PendingSave save : chunk) {
+                binder.bind(save, statement);
+                statement.addBatch();
+            }
 
-                // Save all the users after the loop
-                statement.executeBatch();
+            int[] results = statement.executeBatch();
+            for (int i = 0; missing != null && i < results.length && i < chunk.size(); i++) {
+                if (results[i] == 0) missing.add(chunk.get(i)); // The user isn't in the database yet
             }
-        }));
+
+            batches++;
+        }
+
+        return batches;
+    }
+
+    /**
+     * Bind the changes made to a user into a PreparedStatement, the level and skills are only replaced if they changed
+     * and everything else is added to the database. The statement is not executed
+     *
+     * @param save      The changes to save
+     * @param statement The statement to save into
+     *
+     * @throws SQLException The exception which is going to be caught by the DatabaseConnector
+     */
+    private void bindUpdate(PendingSave save, PreparedStatement statement) throws SQLException {
+        Fisher.Changes changes = save.changes();
+        if (changes.profile()) {
+            statement.setInt(1, changes.snapshot().level());
+            statement.setString(2, GSON.toJson(new PlayerSkills(changes.snapshot().skills())));
+        } else {
+            statement.setNull(1, Types.INTEGER);
+            statement.setNull(2, Types.VARCHAR);
+        }
+
+        statement.setInt(3, changes.entropy());
+        statement.setInt(4, changes.experience());
+        statement.setInt(5, changes.skillPoints());
+        statement.setString(6, save.fisher().getUUID().toString());
     }
 
     /**
@@ -175,29 +436,108 @@ public class DataManager implements Manager {
      * @param uuids All the UUIDs to load
      */
     public void loadBatch(Collection<UUID> uuids) {
-        this.async(() -> this.connector.connect(connection -> {
-            for (UUID uuid : uuids) {
-                this.loadUser(uuid, connection);
+        List<UUID> pending = uuids.stream().filter(x -> !this.userData.containsKey(x)).toList();
+        if (pending.isEmpty()) return;
+
+        this.ready.whenComplete((ignored, ex) -> this.async("db-load", () -> this.connector.read(connection -> {
+            for (Fisher fisher : this.selectUsers(pending, connection)) {
+                this.userData.putIfAbsent(fisher.getUUID(), fisher);
             }
-        }));
+        })));
     }
 
     /**
-     * Implement all the required values to save a user into a PreparedStatement
+     * Load a collection of users in a batch statement, users who are already cached have their values replaced in place
+     * so they are never missing from the cache
      *
-     * @param fisher    The user to save
+     * @param uuids All the UUIDs to load
+     */
+    private void refreshBatch(Collection<UUID> uuids) {
+        if (uuids.isEmpty()) return;
+
+        List<UUID> pending = List.copyOf(uuids);
+        this.ready.whenComplete((ignored, ex) -> this.async("db-load", () -> this.connector.read(connection -> {
+            for (Fisher fisher : this.selectUsers(pending, connection)) {
+                Fisher current = this.userData.putIfAbsent(fisher.getUUID(), fisher);
+                if (current != null) current.refresh(fisher);
+            }
+        })));
+    }
+
+    /**
+     * Load a collection of users from the database using as few queries as possible,
+     * the users are selected in chunks and every full chunk reuses the same prepared statement.
+     *
+     * @param uuids      The users to load
+     * @param connection The Connection to the database
+     *
+     * @return The data of every user, new users are created for anyone who isn't in the database
+     *
+     * @throws SQLException The exception which is going to be caught by the DatabaseConnector
+     */
+    private List<Fisher> selectUsers(List<UUID> uuids, Connection connection) throws SQLException {
+        Map<UUID, Fisher> results = new HashMap<>(uuids.size());
+        PreparedStatement full = null;
+
+        try {
+            for (int start = 0; start < uuids.size(); start += LOAD_CHUNK_SIZE) {
+                List<UUID> chunk = uuids.subList(start, Math.min(start + LOAD_CHUNK_SIZE, uuids.size()));
+
+                // Only the last chunk can be smaller, so it's the only one that needs its own statement
+                boolean reusable = chunk.size() == LOAD_CHUNK_SIZE;
+                if (reusable && full == null) full = connection.prepareStatement(selectUsersQuery(LOAD_CHUNK_SIZE));
+
+                PreparedStatement statement = reusable ? full : connection.prepareStatement(selectUsersQuery(chunk.size()));
+                try {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        statement.setString(i + 1, chunk.get(i).toString());
+                    }
+
+                    try (ResultSet result = statement.executeQuery()) {
+                        while (result.next()) {
+                            Fisher fisher = this.readUser(result);
+                            results.put(fisher.getUUID(), fisher);
+                        }
+                    }
+                } finally {
+                    if (!reusable) statement.close();
+                }
+            }
+        } finally {
+            if (full != null) full.close();
+        }
+
+        List<Fisher> fishers = new ArrayList<>(uuids.size());
+        for (UUID uuid : uuids) {
+            Fisher fisher = results.get(uuid);
+            if (fisher == null) {
+                fisher = new Fisher(uuid);
+                fisher.markDirty(); // New users are inserted on the next flush
+            }
+
+            fishers.add(fisher);
+        }
+
+        return fishers;
+    }
+
+    /**
+     * Bind all the required values to insert a user into a PreparedStatement, the values are taken from when the user
+     * was marked as saved so they match the changes being written. The statement is not executed
+     *
+     * @param save      The user to save
      * @param statement The statement to save into
      *
      * @throws SQLException The exception which is going to be caught by the DatabaseConnector
      */
-    private void saveUser(Fisher fisher, PreparedStatement statement) throws SQLException {
-        statement.setString(1, fisher.getUUID().toString());
-        statement.setInt(2, fisher.getEntropy());
-        statement.setInt(3, fisher.getLevel());
-        statement.setInt(4, fisher.getExperience());
-        statement.setInt(5, fisher.getSkillPoints());
-        statement.setString(6, GSON.toJson(new PlayerSkills(fisher.getSkills())));
-        statement.executeUpdate();
+    private void bindUser(PendingSave save, PreparedStatement statement) throws SQLException {
+        Fisher.Snapshot snapshot = save.changes().snapshot();
+        statement.setString(1, save.fisher().getUUID().toString());
+        statement.setInt(2, snapshot.entropy());
+        statement.setInt(3, snapshot.level());
+        statement.setInt(4, snapshot.experience());
+        statement.setInt(5, snapshot.skillPoints());
+        statement.setString(6, GSON.toJson(new PlayerSkills(snapshot.skills())));
     }
 
     /**
@@ -206,25 +546,43 @@ public class DataManager implements Manager {
      * @param uuid       The user to load
      * @param connection The Connection to the database
      *
+     * @return The user's data, or a new user if they aren't in the database
+     *
      * @throws SQLException The exception which is going to be caught by the DatabaseConnector
      */
-    private void loadUser(UUID uuid, Connection connection) throws SQLException {
-        Fisher fisher = new Fisher(uuid);
-        String query = "SELECT * FROM " + USERS_PREFIX + " WHERE uuid = ?";
-
-        try (PreparedStatement statement = connection.prepareStatement(query)) {
-            statement.setString(1, uuid.toString());
-            ResultSet result = statement.executeQuery();
-            if (result.next()) {
-                fisher.setEntropy(result.getInt("entropy"));
-                fisher.setLevel(result.getInt("level"));
-                fisher.setExperience(result.getInt("experience"));
-                fisher.setSkillPoints(result.getInt("skill_points"));
-                fisher.setSkills(GSON.fromJson(result.getString("skills"), PlayerSkills.class).skills());
-            }
+    private Fisher selectUser(UUID uuid, Connection connection) throws SQLException {
+        return this.selectUsers(List.of(uuid), connection).getFirst();
+    }
 
-            this.userData.put(uuid, fisher);
-        }
+    /**
+     * Read the user from the current row of a query
+     *
+     * @param result The result of the query, moved to the row to read
+     *
+     * @return The user's data
+     *
+     * @throws SQLException The exception which is going to be caught by the DatabaseConnector
+     */
+    private Fisher readUser(ResultSet result) throws SQLException {
+        Fisher fisher = new Fisher(UUID.fromString(result.getString("uuid")));
+        fisher.setEntropy(result.getInt("entropy"));
+        fisher.setLevel(result.getInt("level"));
+        fisher.setExperience(result.getInt("experience"));
+        fisher.setSkillPoints(result.getInt("skill_points"));
+        fisher.setSkills(GSON.fromJson(result.getString("skills"), PlayerSkills.class).skills());
+        fisher.markClean(); // The user matches the database
+        return fisher;
+    }
+
+    /**
+     * Create the query to select a number of users at once
+     *
+     * @param size The amount of users to select
+     *
+     * @return The query
+     */
+    private static String selectUsersQuery(int size) {
+        return "SELECT * FROM `" + USERS_PREFIX + "` WHERE `uuid` IN (" + String.join(", ", Collections.nCopies(size, "?")) + ")";
     }
 
     /**
@@ -236,7 +594,7 @@ public class DataManager implements Manager {
         ArmorStand display = totem.getDisplay();
         if (display == null) return;
 
-        this.async(() -> this.connector.connect(connection -> {
+        this.asyncWrite("db-totem", () -> this.connector.connect(connection -> {
             try (PreparedStatement statement = connection.prepareStatement(SAVE_TOTEM)) {
                 statement.setString(1, display.getUniqueId().toString());
                 statement.setString(2, display.getWorld().getName());
@@ -251,7 +609,7 @@ public class DataManager implements Manager {
      * @param totem The totem to remove
      */
     public void removeTotem(UUID totem) {
-        this.async(() -> this.connector.connect(connection -> {
+        this.asyncWrite("db-totem", () -> this.connector.connect(connection -> {
             try (PreparedStatement statement = connection.prepareStatement(REMOVE_TOTEM)) {
                 statement.setString(1, totem.toString());
                 statement.executeUpdate();
@@ -265,31 +623,28 @@ public class DataManager implements Manager {
      * @return The totem stored
      */
     public CompletableFuture<Map<UUID, Totem>> loadTotems() {
-        return CompletableFuture.supplyAsync(() -> {
+        return this.ready.thenCompose(ignored -> PluginScheduler.get().supplyDatabase("db-totem", () -> {
             Map<UUID, Totem> results = new HashMap<>();
-            try (
-                    Connection connection = this.connector.connect();
-                    PreparedStatement statement = connection.prepareStatement(SELECT_TOTEMS)
-            ) {
-                ResultSet result = statement.executeQuery();
-                while (result.next()) {
-                    String world = result.getString("world");
-                    String entityId = result.getString("entityId");
-                    if (entityId == null || world == null) continue;
-
-                    UUID entityUUID = UUID.fromString(entityId);
-                    Entity entity = Bukkit.getEntity(entityUUID);
-                    if (entity == null || entity.isDead() || !(entity instanceof ArmorStand stand)) continue;
-                    if (!entity.getWorld().getName().equals(world)) continue;
-
-                    results.put(entityUUID, new Totem(stand));
+            this.connector.read(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(SELECT_TOTEMS)) {
+                    ResultSet result = statement.executeQuery();
+                    while (result.next()) {
+                        String world = result.getString("world");
+                        String entityId = result.getString("entityId");
+                        if (entityId == null || world == null) continue;
+
+                        UUID entityUUID = UUID.fromString(entityId);
+                        Entity entity = Bukkit.getEntity(entityUUID);
+                        if (entity == null || entity.isDead() || !(entity instanceof ArmorStand stand)) continue;
+                        if (!entity.getWorld().getName().equals(world)) continue;
+
+                        results.put(entityUUID, new Totem(stand));
+                    }
                 }
-            } catch (SQLException e) {
-                this.plugin.getLogger().severe("An error occurred loading totems: " + e.getMessage());
-            }
+            });
 
             return results;
-        });
+        }));
     }
 
     /**
@@ -302,17 +657,81 @@ public class DataManager implements Manager {
     }
 
     /**
-     * Run a task asynchronously
+     * Get the result of the last time users were written to the database
      *
+     * @return The last flush, null if no users have been written yet
+     */
+    public FlushStats getLastFlush() {
+        return this.lastFlush;
+    }
+
+    /**
+     * Run a database task on the scheduler's database lane
+     *
+     * @param label    The label of the task for the scheduler timings
      * @param runnable The task to run
+     *
+     * @return The future that completes once the task has finished
+     */
+    public CompletableFuture<Void> async(String label, Runnable runnable) {
+        return PluginScheduler.get().runDatabase(PluginScheduler.label(label, runnable));
+    }
+
+    /**
+     * Run a database write on the scheduler's database lane, the write is tracked so the manager can wait for it
+     * before the connection is closed
+     *
+     * @param label    The label of the task for the scheduler timings
+     * @param runnable The write to run
+     *
+     * @return The future that completes once the write has finished
      */
-    public void async(Runnable runnable) {
-        PluginScheduler.get().runTaskAsync(runnable);
+    private CompletableFuture<Void> asyncWrite(String label, Runnable runnable) {
+        CompletableFuture<Void> future = this.async(label, runnable);
+        this.writes.add(future);
+        future.whenComplete((result, ex) -> this.writes.remove(future));
+        return future;
     }
 
     private record PlayerSkills(Map<String, Integer> skills) {
     }
 
+    /**
+     * A user waiting to be written to the database
+     *
+     * @param fisher  The user to write
+     * @param changes The changes made since the user was last saved
+     */
+    private record PendingSave(Fisher fisher, Fisher.Changes changes) {
+    }
+
+    /**
+     * The statements sent to write a batch of users
+     *
+     * @param batches  The amount of batched statements sent
+     * @param inserted The amount of users that were inserted instead of updated
+     */
+    private record WriteResult(int batches, int inserted) {
+    }
+
+    /**
+     * Binds a pending save into a PreparedStatement
+     */
+    private interface SaveBinder {
+        void bind(PendingSave save, PreparedStatement statement) throws SQLException;
+    }
+
+    /**
+     * The result of writing a batch of users to the database
+     *
+     * @param rows      The amount of users written
+     * @param batches   The amount of batched statements sent
+     * @param millis    How long the write took in milliseconds
+     * @param timestamp When the write finished
+     */
+    public record FlushStats(int rows, int batches, long millis, long timestamp) {
+    }
+
     // SQL Queries
     private final String CREATE_TABLE_USERS = "CREATE TABLE IF NOT EXISTS `fishingplugin_users` (" +
                                               "`uuid` VARCHAR(36) NOT NULL PRIMARY KEY," +
@@ -322,9 +741,17 @@ public class DataManager implements Manager {
                                               "`skill_points` INT NOT NULL," +
                                               "`skills` TEXT NOT NULL" +
                                               ")";
-    private final String SAVE_USER = "REPLACE INTO `fishingplugin_users` " +
-                                     "(`uuid`, `entropy`, `level`, `experience`, `skill_points`, `skills`) " +
-                                     "VALUES(?, ?, ?, ?, ?, ?)";
+    private final String INSERT_USER = "INSERT INTO `fishingplugin_users` " +
+                                       "(`uuid`, `entropy`, `level`, `experience`, `skill_points`, `skills`) " +
+                                       "VALUES(?, ?, ?, ?, ?, ?)";
+
+    private final String UPDATE_USER = "UPDATE `fishingplugin_users` SET " +
+                                       "`level` = COALESCE(?, `level`), " +
+                                       "`skills` = COALESCE(?, `skills`), " +
+                                       "`entropy` = `entropy` + ?, " +
+                                       "`experience` = `experience` + ?, " +
+                                       "`skill_points` = `skill_points` + ? " +
+                                       "WHERE `uuid` = ?";
 
     private final String CREATE_TABLE_TOTEMS = "CREATE TABLE IF NOT EXISTS `fishingplugin_totems`(" +
                                                "`entityId` VARCHAR(36) NOT NULL PRIMARY KEY, " +
@@ -3,18 +3,28 @@ package dev.oribuin.fishing.manager;
 import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.config.impl.Config;
 import dev.oribuin.fishing.model.augment.Augment;
+import dev.oribuin.fishing.model.rod.RodProfile;
 import dev.oribuin.fishing.model.rod.RodRarity;
 import io.papermc.paper.persistence.PersistentDataContainerView;
 import org.bukkit.Material;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
 import static dev.oribuin.fishing.storage.util.KeyRegistry.ROD_BASE_CAPACITY;
 import static dev.oribuin.fishing.storage.util.KeyRegistry.ROD_RARITY;
 
 public class RodManager implements Manager {
 
     private final FishingPlugin plugin;
+    private final Map<UUID, CachedRod> profiles = new ConcurrentHashMap<>();
 
     public RodManager(FishingPlugin plugin) {
         this.plugin = plugin;
@@ -27,7 +37,7 @@ public class RodManager implements Manager {
      */
     @Override
     public void reload(FishingPlugin plugin) {
-
+        this.profiles.clear(); // The augments and rarities may have changed
     }
 
     /**
@@ -37,6 +47,118 @@ public class RodManager implements Manager {
      */
     @Override
     public void disable(FishingPlugin plugin) {
+        this.profiles.clear();
+    }
+
+    /**
+     * Get the decoded information about the fishing rod a player is holding, the rod is only decoded again once its augments or rarity change.
+     * The profile returned always has its own copy of the held rod, so changes to it never reach the cache
+     *
+     * @param player The player holding the rod
+     * @param slot   The hand the rod is held in
+     *
+     * @return The rod profile
+     */
+    @NotNull
+    public RodProfile getProfile(@NotNull Player player, @NotNull EquipmentSlot slot) {
+        ItemStack held = player.getInventory().getItem(slot);
+        CachedRod cached = this.profiles.get(player.getUniqueId());
+
+        // Only the data the profile is decoded from is compared, so damage from a catch doesn't decode the rod again
+        RodKey key = this.key(held);
+        if (cached != null && cached.slot() == slot && cached.key().equals(key)) {
+            return cached.profile().withRod(held.clone());
+        }
+
+        RodProfile profile = this.decode(held);
+        this.profiles.put(player.getUniqueId(), new CachedRod(slot, key, profile));
+        return profile.withRod(held.clone());
+    }
+
+    /**
+     * Read the data a rod profile is decoded from
+     *
+     * @param stack The fishing rod
+     *
+     * @return The key of the rod
+     */
+    @NotNull
+    private RodKey key(@NotNull ItemStack stack) {
+        PersistentDataContainerView container = stack.getPersistentDataContainer();
+        return new RodKey(
+                stack.getType(),
+                this.plugin.getAugmentManager().getAugments(stack),
+                container.get(ROD_RARITY.key(), ROD_RARITY),
+                container.getOrDefault(ROD_BASE_CAPACITY.key(), ROD_BASE_CAPACITY, 0)
+        );
+    }
+
+    /**
+     * Decode all the information about a fishing rod without caching it
+     *
+     * @param stack The fishing rod
+     *
+     * @return The rod profile
+     */
+    @NotNull
+    public RodProfile decode(@NotNull ItemStack stack) {
+        ItemStack rod = stack.clone();
+        Map<Augment, Integer> augments = Map.copyOf(this.plugin.getAugmentManager().getAugments(rod));
+        int consumed = augments.values().stream().mapToInt(Integer::intValue).sum();
+
+        return new RodProfile(
+                rod,
+                augments,
+                this.getRarity(rod),
+                rod.getType() == Material.FISHING_ROD ? consumed : 0,
+                this.getMaximumCapacity(rod)
+        );
+    }
+
+    /**
+     * Get the strongest fishing rod inside a player's inventory, the held rod will use the cached profile if available
+     *
+     * @param player The player to check
+     *
+     * @return The strongest rod, null if no rods have any augments
+     */
+    @Nullable
+    public RodProfile getStrongestRod(@NotNull Player player) {
+        PlayerInventory inventory = player.getInventory();
+        ItemStack[] contents = inventory.getContents();
+
+        RodProfile contender = null;
+        for (int i = 0; i < contents.length; i++) {
+            ItemStack stack = contents[i];
+            if (stack == null || stack.getType() != Material.FISHING_ROD) continue; // Make sure it's actually a fishing rod
+
+            RodProfile profile = i == inventory.getHeldItemSlot()
+                    ? this.getProfile(player, EquipmentSlot.HAND)
+                    : this.decode(stack);
+
+            if (profile.augments().isEmpty()) continue;
+            if (contender != null && profile.consumedCapacity() <= contender.consumedCapacity()) continue;
+
+            contender = profile;
+        }
+
+        return contender;
+    }
+
+    /**
+     * Remove the cached rod profile for a player, this should be called whenever the held item changes
+     *
+     * @param player The player to invalidate
+     */
+    public void invalidate(@NotNull Player player) {
+        this.profiles.remove(player.getUniqueId());
+    }
+
+    /**
+     * Remove all the cached rod profiles, used when a rod has been modified directly
+     */
+    public void invalidateAll() {
+        this.profiles.clear();
     }
 
     /**
@@ -67,7 +189,7 @@ public class RodManager implements Manager {
 
         int maximum = this.getMaximumCapacity(stack);
         int current = this.getConsumedCapacity(stack);
-        return Math.min(0, maximum - current);
+        return Math.max(0, maximum - current);
     }
 
     /**
@@ -132,5 +254,23 @@ public class RodManager implements Manager {
         return this.getRarity(container.get(ROD_RARITY.key(), ROD_RARITY));
     }
 
+    /**
+     * A rod profile that has been cached for a player
+     *
+     * @param slot    The hand the rod was held in
+     * @param key     The data the rod was decoded from
+     * @param profile The decoded rod
+     */
+    private record CachedRod(EquipmentSlot slot, RodKey key, RodProfile profile) {}
+
+    /**
+     * The data stored on a rod that its profile is decoded from
+     *
+     * @param type         The type of the item
+     * @param augments     The augments on the rod and their levels
+     * @param rarity       The rarity identifier, null if the rod has not been upgraded
+     * @param baseCapacity The base augment capacity of the rod
+     */
+    private record RodKey(Material type, Map<Augment, Integer> augments, String rarity, int baseCapacity) {}
 
 }
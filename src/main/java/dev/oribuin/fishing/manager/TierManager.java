@@ -1,11 +1,17 @@
 package dev.oribuin.fishing.manager;
 
 import dev.oribuin.fishing.FishingPlugin;
+import dev.oribuin.fishing.api.event.FishEventWrapper;
+import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
 import dev.oribuin.fishing.api.event.impl.FishGenerateEvent;
 import dev.oribuin.fishing.config.item.ItemConstruct;
+import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.ConditionRegistry;
 import dev.oribuin.fishing.model.fish.Fish;
+import dev.oribuin.fishing.model.fish.FishIndex;
 import dev.oribuin.fishing.model.fish.Tier;
 import dev.oribuin.fishing.model.loot.LootRegistry;
+import dev.oribuin.fishing.scheduler.PluginScheduler;
 import dev.oribuin.fishing.storage.util.KeyRegistry;
 import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.Placeholders;
@@ -18,12 +24,16 @@ import org.jetbrains.annotations.Nullable;
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 /**
@@ -31,12 +41,18 @@ import java.util.stream.Collectors;
  */
 public class TierManager implements Manager {
 
+    private static final int RENDER_WORKERS = 4;
+
     private final FishingPlugin plugin;
     private final Map<String, Tier> tiers;
+    private final AtomicInteger generation;
+    private volatile TierTable table;
 
     public TierManager(FishingPlugin plugin) {
         this.plugin = plugin;
         this.tiers = new HashMap<>();
+        this.generation = new AtomicInteger();
+        this.table = TierTable.EMPTY;
     }
 
     /**
@@ -78,30 +94,30 @@ public class TierManager implements Manager {
             for (Map.Entry<String, Fish> entry : current.entrySet()) {
                 entry.getValue().setName(entry.getKey().toLowerCase());
                 entry.getValue().setTier(tier.getName().toLowerCase());
+                entry.getValue().getConditions().forEach(CatchCondition::prepare); // Do the condition's setup now instead of on the first catch
             }
 
             tier.setFish(current);
+            tier.setIndex(new FishIndex(current.values())); // Group the fish by where they can be caught
             this.tiers.put(tier.getName().toLowerCase(), tier);
         }
 
         // Register all the fish into the plugin
         this.getAllFish().forEach(fish -> {
             Tier tier = fish.getTierInstance();
-            Placeholders.Builder placeholders = Placeholders.builder();
-            placeholders.addAll(fish.getPlaceholders());
-            placeholders.addAll(fish.getTierInstance().getPlaceholders());
+            Placeholders placeholders = fish.getPlaceholders(tier);
             
             LootRegistry.register(
                     "fish_" + fish.getName().toLowerCase(),
                     () -> tier.getItem().merge(fish.getConstruct()),
-                    placeholders::build,
+                    () -> placeholders,
                     stack -> stack.editMeta(itemMeta -> {
                         List<String> lore = new ArrayList<>(fish.getDescription());
                         lore.addAll(tier.getItem().getLore());
                         
                         itemMeta.lore(
                                 lore.stream()
-                                .map(s -> FishUtils.kyorify(s, placeholders.build()))
+                                .map(s -> FishUtils.kyorify(s, placeholders))
                                 .toList()
                         );
 
@@ -112,6 +128,10 @@ public class TierManager implements Manager {
 
                     }));
         });
+
+        // Build the selection table once so catching a fish doesn't need to sort the tiers
+        this.table = TierTable.of(this.tiers.values());
+        this.warmItems();
         this.plugin.getLogger().info("Loaded a total of [" + this.tiers.size() + "] tiers with [" + this.getAllFish().size() + "] fish");
     }
 
@@ -127,8 +147,79 @@ public class TierManager implements Manager {
         }
 
         this.tiers.clear();
+        this.table = TierTable.EMPTY;
+        this.generation.incrementAndGet(); // Stop serving any items rendered before the disable
     }
 
+    /**
+     * Start a new catalog generation and render the items of all the fish off the main thread,
+     * any items rendered for an older generation will be rendered again when they are next used
+     */
+    private void warmItems() {
+        int current = this.generation.incrementAndGet();
+        List<Map.Entry<Fish, Tier>> fish = new ArrayList<>();
+        this.tiers.values().forEach(tier -> tier.getFish().values().forEach(x -> fish.add(Map.entry(x, tier))));
+        if (fish.isEmpty()) return;
+
+        // Split the fish between a few of the plugin's own async tasks, rather than the common pool shared by the whole server
+        int workers = Math.min(fish.size(), Math.max(1, Math.min(RENDER_WORKERS, Runtime.getRuntime().availableProcessors() / 2)));
+        AtomicInteger remaining = new AtomicInteger(workers);
+        long start = System.currentTimeMillis();
+
+        for (int worker = 0; worker < workers; worker++) {
+            List<Map.Entry<Fish, Tier>> slice = fish.subList(fish.size() * worker / workers, fish.size() * (worker + 1) / workers);
+
+            PluginScheduler.get().runTaskAsync(PluginScheduler.label("fish-render", () -> {
+                for (Map.Entry<Fish, Tier> entry : slice) {
+                    if (this.generation.get() != current) return; // The tiers have been reloaded again
+
+                    try {
+                        entry.getKey().warmItem(entry.getValue(), current);
+                    } catch (Exception ex) {
+                        this.plugin.getLogger().warning("Failed to render the item for fish[" + entry.getKey().getName() + "]: " + ex.getMessage());
+                    }
+                }
+
+                if (remaining.decrementAndGet() != 0 || this.generation.get() != current) return;
+                this.plugin.getLogger().info("Rendered [" + fish.size() + "] fish items in " + (System.currentTimeMillis() - start) + "ms");
+            }));
+        }
+    }
+
+    /**
+     * The current generation of the fish catalog, this changes every time the tiers are reloaded
+     *
+     * @return The catalog generation
+     */
+    public int getGeneration() {
+        return this.generation.get();
+    }
+
+
+    /**
+     * Generate a fish for a player from the tier selected by the chance, only fish that pass all the catch conditions can be selected.
+     * Fish are picked by their weight within the tier
+     *
+     * @param chance  The chance used to select the tier
+     * @param wrapper The fish event wrapper
+     *
+     * @return The generated fish, null if no fish could be caught
+     */
+    @Nullable
+    public Fish generateFish(double chance, @NotNull FishEventWrapper wrapper) {
+        Tier quality = this.selectTier(chance);
+        if (quality == null) return null;
+
+        // Static conditions can only be skipped if nothing is listening to change their result
+        FishIndex fishIndex = quality.getIndex();
+        if (fishIndex == null) return null;
+
+        boolean useIndex = ConditionCheckEvent.getHandlerList().getRegisteredListeners().length == 0;
+        FishIndex.Candidates candidates = useIndex ? fishIndex.getCandidates(wrapper.context()) : fishIndex.getAll();
+
+        // Pick a random fish by weight from the fish that can be caught
+        return candidates.select(fish -> ConditionRegistry.check(fish, wrapper, useIndex), ThreadLocalRandom.current());
+    }
 
     /**
      * Selects a tier based on the chance number provided by the player, this will return the tier
@@ -143,15 +234,7 @@ public class TierManager implements Manager {
      */
     @Nullable
     public Tier selectTier(double chance) {
-        List<Tier> tiers = new ArrayList<>(this.tiers.values());
-        tiers.sort(Comparator.comparingDouble(Tier::getChance)); // sort by chance
-        Collections.reverse(tiers); // Put highest rarity first
-
-        // Select the new fish :3
-        return tiers.stream()
-                .filter(x -> chance <= x.getChance())
-                .findFirst()
-                .orElse(null);
+        return this.table.select(chance);
     }
 
     /**
@@ -224,5 +307,53 @@ public class TierManager implements Manager {
         return this.tiers;
     }
 
+    /**
+     * An immutable lookup table of all the tiers sorted from the most common tier to the rarest tier,
+     * rebuilt on every reload and swapped in as a whole so the catch path never sorts or allocates.
+     *
+     * @param thresholds The chance of each tier, sorted in descending order
+     * @param tiers      The tier for each threshold at the same index
+     */
+    private record TierTable(double[] thresholds, Tier[] tiers) {
+
+        private static final TierTable EMPTY = new TierTable(new double[0], new Tier[0]);
+
+        /**
+         * Create a new selection table from a collection of tiers
+         *
+         * @param values The tiers to sort into the table
+         *
+         * @return The new selection table
+         */
+        private static TierTable of(Collection<Tier> values) {
+            Tier[] sorted = values.toArray(new Tier[0]);
+            Arrays.sort(sorted, Comparator.comparingDouble(Tier::getChance)); // sort by chance
+            Collections.reverse(Arrays.asList(sorted)); // Put the highest chance first
+
+            double[] thresholds = new double[sorted.length];
+            for (int i = 0; i < sorted.length; i++) {
+                thresholds[i] = sorted[i].getChance();
+            }
+
+            return new TierTable(thresholds, sorted);
+        }
+
+        /**
+         * Find the first tier in the table that the chance is able to reach
+         *
+         * @param chance The chance of obtaining the fish
+         *
+         * @return The selected tier, or null if the chance is higher than every tier
+         */
+        @Nullable
+        private Tier select(double chance) {
+            for (int i = 0; i < this.thresholds.length; i++) {
+                if (chance <= this.thresholds[i]) return this.tiers[i];
+            }
+
+            return null;
+        }
+
+    }
 
 }
@@ -3,6 +3,7 @@ package dev.oribuin.fishing.manager;
 import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.config.ConfigLoader;
 import dev.oribuin.fishing.model.totem.Totem;
+import dev.oribuin.fishing.model.totem.TotemIndex;
 import dev.oribuin.fishing.model.totem.upgrade.TotemUpgradeRegistry;
 import dev.oribuin.fishing.scheduler.PluginScheduler;
 import dev.oribuin.fishing.scheduler.task.ScheduledTask;
@@ -13,6 +14,7 @@ import org.bukkit.entity.ArmorStand;
 
 import java.io.File;
 import java.sql.Ref;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -25,19 +27,24 @@ public class TotemManager implements Manager {
     private static final ConfigLoader loader = new ConfigLoader(UPGRADES_FOLDER.toPath());
     private final FishingPlugin plugin;
     private final Map<UUID, Totem> totems;
+    private final TotemIndex index;
     private ScheduledTask asyncTicker;
     private final long lastTick;
 
     public TotemManager(FishingPlugin plugin) {
         this.plugin = plugin;
         this.totems = new ConcurrentHashMap<>();
+        this.index = new TotemIndex();
         this.asyncTicker = null;
         this.lastTick = System.currentTimeMillis();
 
         TotemUpgradeRegistry.register();
         
         // Check active chunks
-        this.plugin.getDataManager().loadTotems().thenAccept(this.totems::putAll);
+        this.plugin.getDataManager().loadTotems().thenAccept(loaded -> {
+            this.totems.putAll(loaded);
+            loaded.values().forEach(this.index::update);
+        });
     }
 
     /**
@@ -58,7 +65,7 @@ public class TotemManager implements Manager {
         if (this.asyncTicker != null) this.asyncTicker.cancel();
         
         this.asyncTicker = PluginScheduler.get().runTaskTimerAsync(
-                () -> this.tick(Totem::tickAsync),
+                PluginScheduler.label("totem-tick", () -> this.tick(Totem::tickAsync)),
                 1000, 250, TimeUnit.MILLISECONDS
         );
     }
@@ -100,6 +107,7 @@ public class TotemManager implements Manager {
         if (display == null) return;
 
         this.totems.put(display.getUniqueId(), totem);
+        this.index.update(totem);
         this.plugin.getDataManager().saveTotem(totem);
     }
 
@@ -111,6 +119,7 @@ public class TotemManager implements Manager {
      */
     public void registerTotem(ArmorStand stand, Totem totem) {
         this.totems.put(stand.getUniqueId(), totem);
+        this.index.update(totem);
     }
 
     /**
@@ -121,6 +130,7 @@ public class TotemManager implements Manager {
      */
     public void registerTotem(UUID stand, Totem totem) {
         this.totems.put(stand, totem);
+        this.index.update(totem);
     }
 
     /**
@@ -132,6 +142,7 @@ public class TotemManager implements Manager {
         if (totem.getDisplayId() == null) return;
 
         this.totems.remove(totem.getDisplayId());
+        this.index.remove(totem);
         this.plugin.getDataManager().removeTotem(totem.getDisplayId());
     }
 
@@ -160,20 +171,30 @@ public class TotemManager implements Manager {
     }
 
     /**
-     * Get the closest active totem to a location.
+     * Get the closest active totem that has the location within its radius.
      *
      * @param location The location to check.
      *
-     * @return The closest active totem.
+     * @return The closest active totem, null if there are none in range.
      */
     public Totem getClosestActive(Location location) {
-        if (this.totems.isEmpty()) return null;
+        if (location == null) return null;
+
+        return this.index.getClosest(location);
+    }
+
+    /**
+     * Get all the active totems that could be within a range of a location, or have the location within their radius.
+     *
+     * @param location The location to check.
+     * @param range    The range to search around the location.
+     *
+     * @return The active totems nearby, the distance still needs to be checked.
+     */
+    public List<Totem> getActiveNearby(Location location, double range) {
+        if (location == null) return List.of();
 
-        return this.totems.values().stream().filter(Totem::isActive).min((t1, t2) -> {
-            double distance1 = t1.getPosition().distance(location);
-            double distance2 = t2.getPosition().distance(location);
-            return Double.compare(distance1, distance2);
-        }).orElse(null);
+        return this.index.getNearby(location, range);
     }
 
     /**
@@ -199,6 +220,7 @@ public class TotemManager implements Manager {
 
         return this.totems.computeIfAbsent(stand.getUniqueId(), uuid -> {
             Totem totem = new Totem(stand);
+            this.index.update(totem);
             this.plugin.getDataManager().saveTotem(totem);
             return totem;
         });
@@ -27,7 +27,6 @@ import java.util.Random;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 import static dev.oribuin.fishing.storage.util.KeyRegistry.AUGMENT_LEVEL;
 import static dev.oribuin.fishing.storage.util.KeyRegistry.AUGMENT_TYPE;
@@ -51,6 +50,8 @@ public abstract class Augment extends FishEventHandler {
     protected transient final Random random = ThreadLocalRandom.current();
     protected transient final String name;
     protected transient int level;
+    private transient NamespacedKey namespace;
+    private transient NamespacedKey loreNamespace;
 
     protected Boolean enabled;
     protected Integer maxLevel;
@@ -130,7 +131,7 @@ public abstract class Augment extends FishEventHandler {
         if (this.permission != null && !player.hasPermission(this.permission)) return false;
 
         // Check whether the player is the correct level for the augment
-        return fisher.getLevel() >= this.requiredLevel;
+        return fisher != null && fisher.getLevel() >= this.requiredLevel;
     }
 
     /**
@@ -145,17 +146,25 @@ public abstract class Augment extends FishEventHandler {
         if (stack == null || stack.getType() == Material.AIR) return false;
 
         AugmentManager manager = FishingPlugin.get().getAugmentManager();
-        Map<String, Integer> current = manager.getAugments(stack).entrySet()
-                .stream()
-                .collect(Collectors.toMap(
-                        x -> x.getKey().getName(),
-                        Map.Entry::getValue
-                ));
-
-        int currentLevel = current.getOrDefault(this.name, 0);
+        int currentLevel = manager.getAugments(stack).getOrDefault(this, 0);
         return currentLevel + level <= maxLevel;
     }
 
+    /**
+     * Get the level of this augment from the augments that are equipped on a fishing rod.
+     * <p>
+     * Augments registered in {@link AugmentManager} are shared between every rod, use this instead of {@link #getLevel()} when handling an event.
+     *
+     * @param augments The augments equipped on the fishing rod and their levels
+     *
+     * @return The level of the augment, 0 if it is not equipped
+     */
+    public final int getLevel(@Nullable Map<Augment, Integer> augments) {
+        if (augments == null) return 0;
+
+        return augments.getOrDefault(this, 0);
+    }
+
     public ItemStack getItemWithLevel() {
         return this.displayItem.createCustom(
                 this.getPlaceholders(),
@@ -169,7 +178,11 @@ public abstract class Augment extends FishEventHandler {
      * @return The namespace key, typically this will be "fishing:augment_name"
      */
     public final NamespacedKey getNamespace() {
-        return new NamespacedKey(FishingPlugin.get(), this.name);
+        if (this.namespace == null) {
+            this.namespace = new NamespacedKey(FishingPlugin.get(), this.name);
+        }
+
+        return this.namespace;
     }
 
     /**
@@ -178,7 +191,11 @@ public abstract class Augment extends FishEventHandler {
      * @return The namespace key for the lore of the augment, typically this will be "fishing:augment_name-lore"
      */
     public final NamespacedKey getLoreNamespace() {
-        return new NamespacedKey(FishingPlugin.get(), this.name + "-lore");
+        if (this.loreNamespace == null) {
+            this.loreNamespace = new NamespacedKey(FishingPlugin.get(), this.name + "-lore");
+        }
+
+        return this.loreNamespace;
     }
 
     /**
@@ -370,4 +387,17 @@ public abstract class Augment extends FishEventHandler {
     public void setEnabled(Boolean enabled) {
         this.enabled = enabled;
     }
+
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Augment augment)) return false;
+
+        return this.name.equals(augment.name);
+    }
+
+    @Override
+    public final int hashCode() {
+        return this.name.hashCode();
+    }
 }
@@ -4,8 +4,8 @@ import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
 import dev.oribuin.fishing.api.event.impl.FishGenerateEvent;
 import dev.oribuin.fishing.model.augment.Augment;
 import dev.oribuin.fishing.model.condition.impl.BiomeCondition;
-import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -19,7 +19,7 @@ import org.spongepowered.configurate.objectmapping.meta.Comment;
 public class AugmentBiomeBlend extends Augment {
 
     @Comment("The required formula for the augment to trigger")
-    private String formula = "<level> * 0.15";
+    private Formula formula = Formula.of("<level> * 0.15");
 
     /**
      * Create a new type of augment with a name and description.
@@ -45,7 +45,7 @@ public class AugmentBiomeBlend extends Augment {
     public void onConditionCheck(ConditionCheckEvent event) {
         if (!(event.getCondition() instanceof BiomeCondition)) return;
 
-        if (this.random.nextDouble(100) <= this.getChance()) return;
+        if (this.random.nextDouble(100) <= this.getChance(this.getLevel(event.getAugments()))) return;
 
         event.result(true);
     }
@@ -53,11 +53,12 @@ public class AugmentBiomeBlend extends Augment {
     /**
      * Get the chance of the biome being increase
      *
+     * @param level The level of the augment
+     *
      * @return The existing
      */
-    private double getChance() {
-        Placeholders placeholders = Placeholders.of("level", level);
-        return FishUtils.evaluate(placeholders.applyString(this.formula));
+    private double getChance(int level) {
+        return this.formula.evaluate("level", level);
     }
 
     /**
@@ -68,7 +69,7 @@ public class AugmentBiomeBlend extends Augment {
     @Override
     public Placeholders getPlaceholders() {
         return Placeholders.builder(super.getPlaceholders())
-                .add("chance", this.getChance())
+                .add("chance", this.getChance(this.level))
                 .build();
     }
 
@@ -2,8 +2,7 @@ package dev.oribuin.fishing.model.augment.impl;
 
 import dev.oribuin.fishing.api.event.impl.FishCatchEvent;
 import dev.oribuin.fishing.model.augment.Augment;
-import dev.oribuin.fishing.util.FishUtils;
-import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -14,7 +13,7 @@ import org.spongepowered.configurate.objectmapping.meta.Comment;
 public class AugmentEnlightened extends Augment {
     
     @Comment("The required formula for the augment to trigger")
-    private String formula = "<xp> * (<level> * 0.2";
+    private Formula formula = Formula.of("<xp> * (<level> * 0.2)");
 
     /**
      * Create a new type of augment with a name and description.
@@ -36,12 +35,10 @@ public class AugmentEnlightened extends Augment {
      */
     @Override
     public void onFishCatch(FishCatchEvent event) {
-        Placeholders plc = Placeholders.of(
-                "level", level,
+        double xp = this.formula.evaluate(
+                "level", this.getLevel(event.getAugments()),
                 "xp", event.getBaseCatchExp()
         );
-
-        double xp = FishUtils.evaluate(plc.applyString(this.formula));
         event.setCatchExp((int) (event.getCatchExp() + xp));
     }
     
@@ -3,8 +3,7 @@ package dev.oribuin.fishing.model.augment.impl;
 import dev.oribuin.fishing.api.event.impl.FishGutEvent;
 import dev.oribuin.fishing.config.TextMessage;
 import dev.oribuin.fishing.model.augment.Augment;
-import dev.oribuin.fishing.util.FishUtils;
-import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -17,7 +16,7 @@ import static dev.oribuin.fishing.config.impl.PluginMessages.PREFIX;
 public class AugmentFineSlicing extends Augment {
 
     @Comment("The required formula for the augment to trigger")
-    private String formula = "(<entropy> + <level>) * 0.05";
+    private Formula formula = Formula.of("(<entropy> + <level>) * 0.05");
 
     @Comment("The message sent when a player has gained additional entropy from gutting")
     private TextMessage additionalGut = new TextMessage(PREFIX + "You have gained an additional <#93bc80><additional><white> entropy from <#93bc80>Fine Slicing");
@@ -42,11 +41,10 @@ public class AugmentFineSlicing extends Augment {
      */
     @Override
     public void onFishGut(FishGutEvent event) {
-        Placeholders plc = Placeholders.of(
-                "level", level,
+        double additional = this.formula.evaluate(
+                "level", this.getLevel(event.getAugments()),
                 "entropy", event.getBaseEntropy()
         );
-        double additional = FishUtils.evaluate(plc.applyString(this.formula));
         event.setEntropy((int) (event.getEntropy() + additional));
         this.additionalGut.send(event.getPlayer(), "additional", (int) additional);
     }
@@ -2,8 +2,7 @@ package dev.oribuin.fishing.model.augment.impl;
 
 import dev.oribuin.fishing.api.event.impl.FishCatchEvent;
 import dev.oribuin.fishing.model.augment.Augment;
-import dev.oribuin.fishing.util.FishUtils;
-import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -14,7 +13,7 @@ import org.spongepowered.configurate.objectmapping.meta.Comment;
 public class AugmentGenius extends Augment {
 
     @Comment("The required formula for the augment to trigger")
-    private String formula = "<level> * 0.05";
+    private Formula formula = Formula.of("<level> * 0.05");
 
     /**
      * Create a new type of augment with a name and description.
@@ -39,11 +38,10 @@ public class AugmentGenius extends Augment {
      */
     @Override
     public void onFishCatch(FishCatchEvent event) {
-        Placeholders plc = Placeholders.of(
-                "level", level,
+        double xp = this.formula.evaluate(
+                "level", this.getLevel(event.getAugments()),
                 "xp", event.getBaseNaturalExp()
         );
-        double xp = FishUtils.evaluate(plc.applyString(this.formula));
         event.setNaturalExp((int) (event.getNaturalExp() + xp));
     }
 
@@ -7,8 +7,7 @@ import dev.oribuin.fishing.api.event.impl.InitialFishCatchEvent;
 import dev.oribuin.fishing.config.TextMessage;
 import dev.oribuin.fishing.model.augment.Augment;
 import dev.oribuin.fishing.model.condition.Weather;
-import dev.oribuin.fishing.util.FishUtils;
-import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.incendo.cloud.annotations.CommandDescription;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
@@ -27,7 +26,7 @@ public class AugmentHotspot extends Augment {
     private static final Map<UUID, Long> ADDITIONAL = new HashMap<>();
 
     @Comment("The required formula for the augment to trigger")
-    private String formula = "<level> * 0.05"; // 5% per level
+    private Formula formula = Formula.of("<level> * 0.05"); // 5% per level
 
     @Comment("The minimum fish to be spawned in")
     private int minimumFish = 1;
@@ -64,8 +63,7 @@ public class AugmentHotspot extends Augment {
     public void onInitialCatch(InitialFishCatchEvent event) {
         if (!Weather.CLEAR.isState(event.getHook().getLocation())) return;
 
-        Placeholders plc = Placeholders.of("level", level);
-        double chance = FishUtils.evaluate(plc.applyString(this.formula));
+        double chance = this.formula.evaluate("level", this.getLevel(event.getAugments()));
         if (this.random.nextDouble(100) <= chance) return;
 
         int fishCaught = this.minimumFish + (int) (Math.random() * (this.maximumFish - this.minimumFish));
@@ -4,8 +4,7 @@ import dev.oribuin.fishing.api.event.impl.FishGenerateEvent;
 import dev.oribuin.fishing.api.event.impl.InitialFishCatchEvent;
 import dev.oribuin.fishing.config.TextMessage;
 import dev.oribuin.fishing.model.augment.Augment;
-import dev.oribuin.fishing.util.FishUtils;
-import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -16,7 +15,7 @@ import org.spongepowered.configurate.objectmapping.meta.Comment;
 public class AugmentIndulge extends Augment {
 
     @Comment("The required formula for the augment to trigger")
-    private String formula = "<level> * 0.15"; // 15% per level
+    private Formula formula = Formula.of("<level> * 0.15"); // 15% per level
 
     @Comment("The amount of saturation that is given per fish caught")
     private float saturation = 5.0f;
@@ -49,8 +48,7 @@ public class AugmentIndulge extends Augment {
     public void onInitialCatch(InitialFishCatchEvent event) {
         if (event.getPlayer().getFoodLevel() >= 20.0) return;
 
-        Placeholders plc = Placeholders.of("level", level);
-        double chance = FishUtils.evaluate(plc.applyString(this.formula));
+        double chance = this.formula.evaluate("level", this.getLevel(event.getAugments()));
         if (this.random.nextDouble(100) <= chance) return;
 
         event.getPlayer().setSaturation(Math.min(10f, event.getPlayer().getSaturation() + this.saturation));
@@ -2,8 +2,7 @@ package dev.oribuin.fishing.model.augment.impl;
 
 import dev.oribuin.fishing.api.event.impl.FishCatchEvent;
 import dev.oribuin.fishing.model.augment.Augment;
-import dev.oribuin.fishing.util.FishUtils;
-import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -14,7 +13,7 @@ import org.spongepowered.configurate.objectmapping.meta.Comment;
 public class AugmentIntuition extends Augment {
 
     @Comment("The required formula for the augment to trigger")
-    private String formula = "(<entropy> + <level>) * 0.05";
+    private Formula formula = Formula.of("(<entropy> + <level>) * 0.05");
 
     /**
      * Create a new type of augment with a name and description.
@@ -39,8 +38,7 @@ public class AugmentIntuition extends Augment {
      */
     @Override
     public void onFishCatch(FishCatchEvent event) {
-        Placeholders plc = Placeholders.of("level", level, "entropy", event.getBaseCatchEntropy());
-        double entropy = FishUtils.evaluate(plc.applyString(this.formula));
+        double entropy = this.formula.evaluate("level", this.getLevel(event.getAugments()), "entropy", event.getBaseCatchEntropy());
         event.setCatchEntropy((int) (event.getCatchEntropy() + entropy));
     }
 
@@ -1,7 +1,9 @@
 package dev.oribuin.fishing.model.condition;
 
+import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.api.event.FishEventWrapper;
 import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
+import dev.oribuin.fishing.model.augment.Augment;
 import dev.oribuin.fishing.model.fish.Fish;
 import dev.oribuin.fishing.util.Placeholders;
 import org.bukkit.entity.FishHook;
@@ -10,11 +12,13 @@ import org.bukkit.inventory.ItemStack;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
+import java.util.Map;
+
 /**
  * A condition that is checked when a player is trying to catch a fish
  * <p>
  * First, {@link #shouldRun(Fish)} is called to check if the fish has the condition type
- * If the fish has the condition type, {@link #check(Fish, Player, ItemStack, FishHook)} is called to check if the player meets the condition to catch the fish
+ * If the fish has the condition type, {@link #check(Fish, CatchContext)} is called to check if the player meets the condition to catch the fish
  *
  * @see dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper)   to see how this is used
  */
@@ -31,7 +35,7 @@ public abstract class CatchCondition {
      *
      * @param fish The fish to check for
      *
-     * @return true if the fish has the condition applied. @see {@link #check(Fish, Player, ItemStack, FishHook)} for the actual condition check
+     * @return true if the fish has the condition applied. @see {@link #check(Fish, CatchContext)} for the actual condition check
      */
     public boolean shouldRun(Fish fish) {
         return this.enabled;
@@ -42,7 +46,21 @@ public abstract class CatchCondition {
      * <p>
      * To see how this is used, check {@link dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper)}
      * <p>
-     * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed
+     * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed.
+     * By default this calls {@link #check(Fish, Player, ItemStack, FishHook)}, so conditions written before the context existed keep working.
+     * A condition must override at least one of the two check methods.
+     *
+     * @param fish    The fish the player is trying to catch
+     * @param context The environment around the fish hook, shared between all conditions during the catch
+     *
+     * @return Results in true if the player can catch the fish
+     */
+    public boolean check(Fish fish, CatchContext context) {
+        return this.check(fish, context.player(), context.rod(), context.hook());
+    }
+
+    /**
+     * Check if the player meets the condition to catch the fish or not
      *
      * @param fish   The fish the player is trying to catch
      * @param player The player to check
@@ -50,8 +68,31 @@ public abstract class CatchCondition {
      * @param hook   The fishhook the player is using
      *
      * @return Results in true if the player can catch the fish
+     *
+     * @deprecated Override {@link #check(Fish, CatchContext)} instead, the context avoids looking up the world for every fish
+     */
+    @Deprecated
+    public boolean check(Fish fish, Player player, ItemStack rod, FishHook hook) {
+        Map<Augment, Integer> augments = FishingPlugin.get().getAugmentManager().getAugments(rod);
+        return this.check(fish, new CatchContext(player, hook, rod, augments));
+    }
+
+    /**
+     * Prepare anything the condition needs ahead of time, this is called when the fish are loaded so the first catch doesn't have to
+     */
+    public void prepare() {
+    }
+
+    /**
+     * Whether the result of this condition only depends on the world, biome, weather and boat of a catch.
+     * <p>
+     * Static conditions are only checked once per environment by {@link dev.oribuin.fishing.model.fish.FishIndex}, instead of every catch.
+     *
+     * @return true if the condition is static
      */
-    public abstract boolean check(Fish fish, Player player, ItemStack rod, FishHook hook);
+    public boolean isStatic() {
+        return false;
+    }
 
     /**
      * All the placeholders that can be used in the configuration file for this configurable class
@@ -0,0 +1,267 @@
+package dev.oribuin.fishing.model.condition;
+
+import dev.oribuin.fishing.model.augment.Augment;
+import dev.oribuin.fishing.hook.plugin.PAPIProvider;
+import dev.oribuin.fishing.model.condition.impl.IceFishingCondition;
+import net.kyori.adventure.key.Key;
+import org.bukkit.Location;
+import org.bukkit.Tag;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.entity.Boat;
+import org.bukkit.entity.FishHook;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A snapshot of the environment around a fish hook, shared by every {@link CatchCondition} checked during a catch.
+ * <p>
+ * Each value is read from the world the first time it's requested and reused afterwards,
+ * so checking hundreds of fish only looks up the hook block, biome, light level, etc. once.
+ */
+public final class CatchContext {
+
+    private final Player player;
+    private final FishHook hook;
+    private final ItemStack rod;
+    private final Map<Augment, Integer> augments;
+    private final Map<String, Boolean> permissions = new HashMap<>();
+    private final Map<String, String> papi = new HashMap<>();
+
+    private Location location;
+    private Block block;
+    private Key biome;
+    private int lightLevel = -1;
+    private Weather weather;
+    private Boolean inBoat;
+    private Boolean iceFishing;
+    private int scannedDepth;
+    private int liquidDepth = -1;
+
+    /**
+     * Create a new catch context for a fish hook
+     *
+     * @param player   The player who is fishing
+     * @param hook     The fish hook
+     * @param rod      The fishing rod the player is using
+     * @param augments The augments equipped on the rod
+     */
+    public CatchContext(@NotNull Player player, @NotNull FishHook hook, @NotNull ItemStack rod, @NotNull Map<Augment, Integer> augments) {
+        this.player = player;
+        this.hook = hook;
+        this.rod = rod;
+        this.augments = augments;
+    }
+
+    /**
+     * The player who is fishing
+     *
+     * @return The player
+     */
+    public Player player() {
+        return this.player;
+    }
+
+    /**
+     * The fish hook the player is using
+     *
+     * @return The fish hook
+     */
+    public FishHook hook() {
+        return this.hook;
+    }
+
+    /**
+     * The fishing rod the player is using
+     *
+     * @return The fishing rod
+     */
+    public ItemStack rod() {
+        return this.rod;
+    }
+
+    /**
+     * The augments equipped on the fishing rod
+     *
+     * @return The augments and their levels
+     */
+    public Map<Augment, Integer> augments() {
+        return this.augments;
+    }
+
+    /**
+     * The location of the fish hook, this should not be modified
+     *
+     * @return The hook location
+     */
+    public Location location() {
+        if (this.location == null) this.location = this.hook.getLocation();
+
+        return this.location;
+    }
+
+    /**
+     * The block the fish hook is inside
+     *
+     * @return The hook block
+     */
+    public Block block() {
+        if (this.block == null) this.block = this.location().getBlock();
+
+        return this.block;
+    }
+
+    /**
+     * The world the fish hook is in
+     *
+     * @return The world
+     */
+    public World world() {
+        return this.location().getWorld();
+    }
+
+    /**
+     * The environment of the world the fish hook is in
+     *
+     * @return The world environment
+     */
+    public World.Environment environment() {
+        return this.world().getEnvironment();
+    }
+
+    /**
+     * The y level of the fish hook
+     *
+     * @return The block y of the hook
+     */
+    public int height() {
+        return this.location().getBlockY();
+    }
+
+    /**
+     * The key of the biome the fish hook is in
+     *
+     * @return The biome key
+     */
+    public Key biome() {
+        if (this.biome == null) this.biome = this.block().getBiome().key();
+
+        return this.biome;
+    }
+
+    /**
+     * The light level at the fish hook
+     *
+     * @return The light level
+     */
+    public int lightLevel() {
+        if (this.lightLevel == -1) this.lightLevel = this.block().getLightLevel();
+
+        return this.lightLevel;
+    }
+
+    /**
+     * The current weather in the world of the fish hook
+     *
+     * @return The weather
+     */
+    public Weather weather() {
+        if (this.weather == null) this.weather = Weather.test(this.location());
+
+        return this.weather;
+    }
+
+    /**
+     * The current time in the world of the fish hook
+     *
+     * @return The world time in ticks
+     */
+    public long time() {
+        return this.world().getTime();
+    }
+
+    /**
+     * Check if the player is fishing from a boat
+     *
+     * @return true if the player is inside a boat
+     */
+    public boolean inBoat() {
+        if (this.inBoat == null) this.inBoat = this.player.getVehicle() instanceof Boat;
+
+        return this.inBoat;
+    }
+
+    /**
+     * Check if the fish hook is surrounded by ice, ignoring any blocks directly around the hook
+     *
+     * @return true if the player is ice fishing
+     */
+    public boolean iceFishing() {
+        if (this.iceFishing != null) return this.iceFishing;
+
+        Block center = this.block();
+        for (int x = -IceFishingCondition.MAX_RADIUS; x <= IceFishingCondition.MAX_RADIUS; x++) {
+            for (int z = -IceFishingCondition.MAX_RADIUS; z <= IceFishingCondition.MAX_RADIUS; z++) {
+                if (Math.abs(x) < IceFishingCondition.MIN_RADIUS && Math.abs(z) < IceFishingCondition.MIN_RADIUS) continue;
+
+                Block check = center.getRelative(x, 0, z);
+                if (check.isLiquid()) continue; // if the block is liquid, continue
+                if (!Tag.ICE.isTagged(check.getType())) return this.iceFishing = false;
+            }
+        }
+
+        return this.iceFishing = true;
+    }
+
+    /**
+     * Check if there is any liquid within a depth below the fish hook, or if the hook is within that many blocks of y 0
+     *
+     * @param depth The amount of blocks to check
+     *
+     * @return true if the hook is within the depth
+     */
+    public boolean withinDepth(int depth) {
+        int height = this.height();
+        if (height >= 0 && height < depth) return true;
+
+        // Only scan the blocks that haven't been scanned already
+        Block center = this.block();
+        while (this.liquidDepth == -1 && this.scannedDepth < depth) {
+            if (center.getRelative(0, -this.scannedDepth, 0).isLiquid()) {
+                this.liquidDepth = this.scannedDepth;
+            }
+
+            this.scannedDepth++;
+        }
+
+        return this.liquidDepth != -1 && this.liquidDepth < depth;
+    }
+
+    /**
+     * Check if the player has a permission, the result is cached for the rest of the catch
+     *
+     * @param permission The permission to check
+     *
+     * @return true if the player has the permission
+     */
+    public boolean hasPermission(@NotNull String permission) {
+        return this.permissions.computeIfAbsent(permission, this.player::hasPermission);
+    }
+
+    /**
+     * Apply the placeholderapi values for the player to a string, the result is cached for the rest of the catch
+     * so checking the same placeholder for every fish only requests it once
+     *
+     * @param text The text to apply the placeholders to
+     *
+     * @return The text with the placeholders applied
+     */
+    public String applyPapi(@NotNull String text) {
+        return this.papi.computeIfAbsent(text, x -> PAPIProvider.apply(this.player, x));
+    }
+
+}
@@ -86,13 +86,34 @@ public class ConditionRegistry {
      * @return Results in true if the player can catch the fish
      */
     public static boolean check(Fish fish, FishEventWrapper wrapper) {
+        return check(fish, wrapper, false);
+    }
+
+    /**
+     * Runs a fish context through all the conditions to check if the player can catch the fish or not.
+     *
+     * @param fish       The fish the player is trying to catch
+     * @param wrapper    The event wrapper
+     * @param skipStatic Skip the static conditions, used when they have already been checked by {@link dev.oribuin.fishing.model.fish.FishIndex}
+     *
+     * @return Results in true if the player can catch the fish
+     */
+    public static boolean check(Fish fish, FishEventWrapper wrapper, boolean skipStatic) {
+        boolean listening = ConditionCheckEvent.getHandlerList().getRegisteredListeners().length > 0;
         for (CatchCondition condition : fish.getConditions()) {
             if (!condition.shouldRun(fish)) {
                 continue; // Don't run the condition they don't have 
             }
 
+            if (skipStatic && condition.isStatic()) continue;
+
             // Check the condition
-            boolean result = condition.check(fish, wrapper.player(), wrapper.rod(), wrapper.hook());
+            boolean result = condition.check(fish, wrapper.context());
+            if (!listening) {
+                if (!result) return false;
+                continue; // Nothing can change the result, skip creating the event
+            }
+
             ConditionCheckEvent event = new ConditionCheckEvent(wrapper.player(), wrapper, condition, result);
             event.callEvent(); // Call the event
 
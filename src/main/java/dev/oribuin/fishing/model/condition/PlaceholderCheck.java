@@ -1,10 +1,15 @@
 package dev.oribuin.fishing.model.condition;
 
+import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.hook.plugin.PAPIProvider;
 import dev.oribuin.fishing.util.Placeholders;
 import org.bukkit.entity.Player;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
 /**
  * Create a new instance of the placeholder checking class, used to check if a placeholder based condition is met or not
  */
@@ -12,11 +17,15 @@ import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 @SuppressWarnings("FieldMayBeFinal")
 public class PlaceholderCheck {
 
+    private static final Pattern TAG_PATTERN = Pattern.compile("<[a-zA-Z_!?#/]");
+
     private CheckType type;
     private String input;
     private String output;
     private boolean inverted;
     private boolean required;
+    private transient Compiled compiled;
+    private transient volatile LastPattern lastPattern;
 
     /**
      * Create a new instance of the placeholder checking class, used to check if a placeholder based condition is met or not
@@ -33,6 +42,7 @@ public class PlaceholderCheck {
         this.output = output;
         this.inverted = inverted;
         this.required = required;
+        this.compiled = null;
     }
 
     /**
@@ -96,13 +106,51 @@ public class PlaceholderCheck {
      * @return Results in true if the condition is met
      */
     public boolean attempt(Player player, Placeholders placeholders) {
-        return switch (this.type) {
-            case EQUALS -> this.equals(player, placeholders);
-            case CONTAINS -> this.contains(player, placeholders);
-            case STARTS_WITH -> this.startsWith(player, placeholders);
-            case ENDS_WITH -> this.endsWith(player, placeholders);
-            case MATCHES -> this.matches(player, placeholders);
-        };
+        return this.attempt(this.type, placeholders, text -> PAPIProvider.apply(player, text));
+    }
+
+    /**
+     * Check if the input and output strings are equal or not, any placeholderapi values are shared with the rest of the catch
+     *
+     * @param context      The catch the check is for
+     * @param placeholders The placeholders to apply to the input and output strings
+     *
+     * @return Results in true if the condition is met
+     */
+    public boolean attempt(CatchContext context, Placeholders placeholders) {
+        return this.attempt(this.type, placeholders, context::applyPapi);
+    }
+
+    /**
+     * Compare the input and output strings with a type of check
+     *
+     * @param type         The type of check to use
+     * @param placeholders The placeholders to apply to the input and output strings
+     * @param papi         The function used to apply placeholderapi values
+     *
+     * @return Results in true if the condition is met
+     */
+    private boolean attempt(CheckType type, Placeholders placeholders, UnaryOperator<String> papi) {
+        if (this.input == null || this.output == null) return false;
+
+        Compiled compiled = this.compile();
+        String input = compiled.input().resolve(placeholders, papi);
+        if (type == CheckType.MATCHES) {
+            Pattern pattern = compiled.pattern() != null
+                    ? compiled.pattern()
+                    : this.pattern(compiled.output().resolve(placeholders, papi));
+
+            return pattern.matcher(input).matches() != this.inverted;
+        }
+
+        String output = compiled.output().resolve(placeholders, papi);
+        return switch (type) {
+            case EQUALS -> input.equals(output);
+            case CONTAINS -> input.contains(output);
+            case STARTS_WITH -> input.startsWith(output);
+            case ENDS_WITH -> input.endsWith(output);
+            case MATCHES -> false; // already checked above
+        } != this.inverted;
     }
 
     /**
@@ -114,12 +162,7 @@ public class PlaceholderCheck {
      * @return Results in true if the condition is met
      */
     public boolean equals(Player player, Placeholders placeholders) {
-        if (input == null || output == null) return false;
-
-        String input = PAPIProvider.apply(player, placeholders.applyString(this.input));
-        String output = PAPIProvider.apply(player, placeholders.applyString(this.output));
-
-        return input.equals(output) != this.inverted;
+        return this.attempt(CheckType.EQUALS, placeholders, text -> PAPIProvider.apply(player, text));
     }
 
     /**
@@ -131,12 +174,7 @@ public class PlaceholderCheck {
      * @return Results in true if the condition is met
      */
     public boolean contains(Player player, Placeholders placeholders) {
-        if (input == null || output == null) return false;
-
-        String input = PAPIProvider.apply(player, placeholders.applyString(this.input));
-        String output = PAPIProvider.apply(player, placeholders.applyString(this.output));
-
-        return input.contains(output) != this.inverted;
+        return this.attempt(CheckType.CONTAINS, placeholders, text -> PAPIProvider.apply(player, text));
     }
 
     /**
@@ -148,12 +186,7 @@ public class PlaceholderCheck {
      * @return Results in true if the condition is met
      */
     public boolean startsWith(Player player, Placeholders placeholders) {
-        if (input == null || output == null) return false;
-
-        String input = PAPIProvider.apply(player, placeholders.applyString(this.input));
-        String output = PAPIProvider.apply(player, placeholders.applyString(this.output));
-
-        return input.startsWith(output) != this.inverted;
+        return this.attempt(CheckType.STARTS_WITH, placeholders, text -> PAPIProvider.apply(player, text));
     }
 
     /**
@@ -165,12 +198,7 @@ public class PlaceholderCheck {
      * @return Results in true if the condition is met
      */
     public boolean endsWith(Player player, Placeholders placeholders) {
-        if (input == null || output == null) return false;
-
-        String input = PAPIProvider.apply(player, placeholders.applyString(this.input));
-        String output = PAPIProvider.apply(player, placeholders.applyString(this.output));
-
-        return input.endsWith(output) != this.inverted;
+        return this.attempt(CheckType.ENDS_WITH, placeholders, text -> PAPIProvider.apply(player, text));
     }
 
     /**
@@ -182,12 +210,122 @@ public class PlaceholderCheck {
      * @return Results in true if the condition is met
      */
     public boolean matches(Player player, Placeholders placeholders) {
-        if (input == null || output == null) return false;
+        return this.attempt(CheckType.MATCHES, placeholders, text -> PAPIProvider.apply(player, text));
+    }
+
+    /**
+     * Prepare the input and output strings ahead of time, so the first catch doesn't have to compile them.
+     * An invalid regex is logged here and left to fail when the check is used
+     */
+    public void prepare() {
+        if (this.input == null || this.output == null) return;
+
+        try {
+            this.compile();
+        } catch (PatternSyntaxException ex) {
+            FishingPlugin.get().getLogger().warning("The placeholder check [" + this.output + "] has an invalid regex: " + ex.getDescription());
+        }
+    }
+
+    /**
+     * Get the input and output strings prepared for checking, this is only done the first time the check is used
+     *
+     * @return The compiled strings
+     */
+    private Compiled compile() {
+        Compiled current = this.compiled;
+        if (current != null) return current;
+
+        CheckText input = CheckText.of(this.input);
+        CheckText output = CheckText.of(this.output);
+        Pattern pattern = null;
+        if (this.type == CheckType.MATCHES && output.isConstant()) {
+            pattern = Pattern.compile(output.raw());
+        }
+
+        return this.compiled = new Compiled(input, output, pattern);
+    }
+
+    /**
+     * Get the regex for an output that can change, the last regex is kept so it is only compiled again when the output changes
+     *
+     * @param regex The resolved output string
+     *
+     * @return The compiled regex
+     */
+    private Pattern pattern(String regex) {
+        LastPattern last = this.lastPattern;
+        if (last != null && last.regex().equals(regex)) return last.pattern();
+
+        Pattern pattern = Pattern.compile(regex);
+        this.lastPattern = new LastPattern(regex, pattern);
+        return pattern;
+    }
+
+    /**
+     * The last regex that was compiled for an output that can change
+     *
+     * @param regex   The resolved output string
+     * @param pattern The compiled regex
+     */
+    private record LastPattern(String regex, Pattern pattern) {}
+
+    /**
+     * The input and output strings prepared for checking
+     *
+     * @param input   The input string
+     * @param output  The output string
+     * @param pattern The compiled regex if the output never changes, otherwise null
+     */
+    private record Compiled(CheckText input, CheckText output, Pattern pattern) {}
+
+    /**
+     * A string used in the check, with the work it needs done ahead of time
+     *
+     * @param raw       The string from the config
+     * @param formatted Whether the string has any plugin placeholders or formatting to apply
+     * @param papi      Whether the string has any placeholderapi values to apply
+     */
+    private record CheckText(String raw, boolean formatted, boolean papi) {
+
+        /**
+         * Look through a string to find what needs to be applied to it, only tags and escaped tags need formatting,
+         * so regex like {@code \d+} or {@code a < b} are left alone
+         *
+         * @param raw The string from the config
+         *
+         * @return The check text
+         */
+        static CheckText of(String raw) {
+            return new CheckText(
+                    raw,
+                    TAG_PATTERN.matcher(raw).find() || raw.contains("\\<") || raw.contains("\\\\"),
+                    raw.indexOf('%') != -1
+            );
+        }
+
+        /**
+         * Apply all the placeholders to the string
+         *
+         * @param placeholders The plugin placeholders
+         * @param papi         The function used to apply placeholderapi values
+         *
+         * @return The resulting string
+         */
+        String resolve(Placeholders placeholders, UnaryOperator<String> papi) {
+            String result = this.formatted ? placeholders.applyString(this.raw) : this.raw;
+            return this.papi ? papi.apply(result) : result;
+        }
 
-        String input = PAPIProvider.apply(player, placeholders.applyString(this.input));
-        String output = PAPIProvider.apply(player, placeholders.applyString(this.output));
+        /**
+         * Check if the string is always the same no matter who is fishing
+         *
+         * @return true if there is nothing to apply
+         */
+        boolean isConstant() {
+            return !this.formatted && !this.papi;
+        }
 
-        return input.matches(output) != this.inverted;
     }
 
     /**
@@ -3,14 +3,13 @@ package dev.oribuin.fishing.model.condition.impl;
 import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.api.event.FishEventWrapper;
 import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
+import dev.oribuin.fishing.manager.AugmentManager;
 import dev.oribuin.fishing.model.augment.Augment;
 import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.CatchContext;
 import dev.oribuin.fishing.model.condition.ConditionRegistry;
 import dev.oribuin.fishing.model.fish.Fish;
 import dev.oribuin.fishing.util.Placeholders;
-import org.bukkit.entity.FishHook;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -22,7 +21,7 @@ import java.util.Map;
  * A condition that is checked when a player is trying to catch a fish
  * <p>
  * First, {@link #shouldRun(Fish)} is called to check if the fish has the condition type
- * If the fish has the condition type, {@link #check(Fish, Player, ItemStack, FishHook)} is called to check if the player meets the condition to catch the fish
+ * If the fish has the condition type, {@link #check(Fish, CatchContext)} is called to check if the player meets the condition to catch the fish
  *
  * @see dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper)   to see how this is used
  */
@@ -40,7 +39,7 @@ public class AugmentCondition extends CatchCondition {
      *
      * @param fish The fish to check for
      *
-     * @return true if the fish has the condition applied. @see {@link #check(Fish, Player, ItemStack, FishHook)} for the actual condition check
+     * @return true if the fish has the condition applied. @see {@link #check(Fish, CatchContext)} for the actual condition check
      */
     @Override
     public boolean shouldRun(Fish fish) {
@@ -54,20 +53,16 @@ public class AugmentCondition extends CatchCondition {
      * <p>
      * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed
      *
-     * @param fish   The fish the player is trying to catch
-     * @param player The player to check
-     * @param rod    The fishing rod the player is using
-     * @param hook   The fishhook the player is using
+     * @param fish    The fish the player is trying to catch
+     * @param context The environment around the fish hook
      *
      * @return Results in true if the player can catch the fish
      */
     @Override
-    public boolean check(Fish fish, Player player, ItemStack rod, FishHook hook) {
-        Map<Augment, Integer> playerAugments = FishingPlugin.get().getAugmentManager().getAugments(rod);
-        return this.augments.entrySet().stream().allMatch(entry -> {
-            Augment augment = FishingPlugin.get().getAugmentManager().getAugment(entry.getKey());
-            return playerAugments.containsKey(augment) && playerAugments.get(augment) >= entry.getValue();
-        });
+    public boolean check(Fish fish, CatchContext context) {
+        Map<Augment, Integer> playerAugments = context.augments();
+        AugmentManager manager = FishingPlugin.get().getAugmentManager();
+        return this.augments.entrySet().stream().allMatch(entry -> manager.hasAugment(playerAugments, entry.getKey(), entry.getValue()));
     }
 
     /**
@@ -3,13 +3,10 @@ package dev.oribuin.fishing.model.condition.impl;
 import dev.oribuin.fishing.api.event.FishEventWrapper;
 import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
 import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.CatchContext;
 import dev.oribuin.fishing.model.fish.Fish;
 import dev.oribuin.fishing.util.Placeholders;
 import net.kyori.adventure.key.Key;
-import org.bukkit.block.Biome;
-import org.bukkit.entity.FishHook;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.intellij.lang.annotations.Subst;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
@@ -21,7 +18,7 @@ import java.util.List;
  * A condition that is checked when a player is trying to catch a fish
  * <p>
  * First, {@link #shouldRun(Fish)} is called to check if the fish has the condition type
- * If the fish has the condition type, {@link #check(Fish, Player, ItemStack, FishHook)} is called to check if the player meets the condition to catch the fish
+ * If the fish has the condition type, {@link #check(Fish, CatchContext)} is called to check if the player meets the condition to catch the fish
  *
  * @see dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper) to see how this is used
  */
@@ -31,6 +28,7 @@ public class BiomeCondition extends CatchCondition {
 
     @Comment("The required list of biomes to catch a specified fish. Add '!' in front of a biome to invert the check")
     private List<String> biomes = new ArrayList<>();
+    private transient List<BiomeMatch> matches;
 
     /**
      * Decides whether the condition should be checked in the first place,
@@ -39,7 +37,7 @@ public class BiomeCondition extends CatchCondition {
      *
      * @param fish The fish to check for
      *
-     * @return true if the fish has the condition applied. @see {@link #check(Fish, Player, ItemStack, FishHook)} for the actual condition check
+     * @return true if the fish has the condition applied. @see {@link #check(Fish, CatchContext)} for the actual condition check
      */
     @Override
     public boolean shouldRun(Fish fish) {
@@ -53,22 +51,29 @@ public class BiomeCondition extends CatchCondition {
      * <p>
      * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed
      *
-     * @param fish   The fish the player is trying to catch
-     * @param player The player to check
-     * @param rod    The fishing rod the player is using
-     * @param hook   The fishhook the player is using
+     * @param fish    The fish the player is trying to catch
+     * @param context The environment around the fish hook
      *
      * @return Results in true if the player can catch the fish
      */
     @Override
-    public boolean check(Fish fish, Player player, ItemStack rod, FishHook hook) {
-        Biome current = hook.getLocation().getBlock().getBiome();
-        return this.biomes.stream().anyMatch(x -> {
-            Key biomeKey = this.from(x.startsWith("!") ? x.substring(1) : x);
+    public boolean check(Fish fish, CatchContext context) {
+        Key current = context.biome();
+        for (BiomeMatch match : this.getMatches()) {
+            if (match.inverted() != current.equals(match.key())) return true;
+        }
 
-            if (x.startsWith("!")) return !current.key().equals(biomeKey);
-            else return current.key().equals(biomeKey);
-        });
+        return false;
+    }
+
+    /**
+     * Whether the result of this condition only depends on the world, biome, weather and boat of a catch.
+     *
+     * @return true if the condition is static
+     */
+    @Override
+    public boolean isStatic() {
+        return true;
     }
 
     /**
@@ -83,6 +88,23 @@ public class BiomeCondition extends CatchCondition {
         );
     }
 
+    /**
+     * Parse the configured biomes into keys, this is only done once per fish
+     *
+     * @return The biome matches
+     */
+    private List<BiomeMatch> getMatches() {
+        if (this.matches == null) {
+            this.matches = this.biomes.stream()
+                    .map(x -> x.startsWith("!")
+                            ? new BiomeMatch(this.from(x.substring(1)), true)
+                            : new BiomeMatch(this.from(x), false))
+                    .toList();
+        }
+
+        return this.matches;
+    }
+
     private Key from(String name) {
         @Subst("minecraft:plains")
         String[] split = name.toLowerCase().split(":");
@@ -94,4 +116,12 @@ public class BiomeCondition extends CatchCondition {
         return Key.key(Key.MINECRAFT_NAMESPACE, split[0]);
     }
 
+    /**
+     * A configured biome that has been parsed
+     *
+     * @param key      The biome key
+     * @param inverted Whether the biome should not match
+     */
+    private record BiomeMatch(Key key, boolean inverted) {}
+
 }
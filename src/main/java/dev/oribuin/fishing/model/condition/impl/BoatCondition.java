@@ -3,19 +3,15 @@ package dev.oribuin.fishing.model.condition.impl;
 import dev.oribuin.fishing.api.event.FishEventWrapper;
 import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
 import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.CatchContext;
 import dev.oribuin.fishing.model.fish.Fish;
-import org.bukkit.entity.Boat;
-import org.bukkit.entity.Entity;
-import org.bukkit.entity.FishHook;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 /**
  * A condition that is checked when a player is trying to catch a fish
  * <p>
  * First, {@link #shouldRun(Fish)} is called to check if the fish has the condition type
- * If the fish has the condition type, {@link #check(Fish, Player, ItemStack, FishHook)} is called to check if the player meets the condition to catch the fish
+ * If the fish has the condition type, {@link #check(Fish, CatchContext)} is called to check if the player meets the condition to catch the fish
  *
  * @see dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper) to see how this is used
  */
@@ -29,7 +25,7 @@ public class BoatCondition extends CatchCondition {
      *
      * @param fish The fish to check for
      *
-     * @return true if the fish has the condition applied. @see {@link #check(Fish, Player, ItemStack, FishHook)} for the actual condition check
+     * @return true if the fish has the condition applied. @see {@link #check(Fish, CatchContext)} for the actual condition check
      */
     @Override
     public boolean shouldRun(Fish fish) {
@@ -43,19 +39,24 @@ public class BoatCondition extends CatchCondition {
      * <p>
      * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed
      *
-     * @param fish   The fish the player is trying to catch
-     * @param player The player to check
-     * @param rod    The fishing rod the player is using
-     * @param hook   The fishhook the player is using
+     * @param fish    The fish the player is trying to catch
+     * @param context The environment around the fish hook
      *
      * @return Results in true if the player can catch the fish
      */
     @Override
-    public boolean check(Fish fish, Player player, ItemStack rod, FishHook hook) {
-        if (!player.isInsideVehicle()) return false;
+    public boolean check(Fish fish, CatchContext context) {
+        return context.inBoat();
+    }
 
-        Entity vehicle = player.getVehicle();
-        return vehicle instanceof Boat;
+    /**
+     * Whether the result of this condition only depends on the world, biome, weather and boat of a catch.
+     *
+     * @return true if the condition is static
+     */
+    @Override
+    public boolean isStatic() {
+        return true;
     }
 
 }
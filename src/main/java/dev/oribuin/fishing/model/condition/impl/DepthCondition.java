@@ -3,12 +3,9 @@ package dev.oribuin.fishing.model.condition.impl;
 import dev.oribuin.fishing.api.event.FishEventWrapper;
 import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
 import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.CatchContext;
 import dev.oribuin.fishing.model.fish.Fish;
 import dev.oribuin.fishing.util.Placeholders;
-import org.bukkit.block.Block;
-import org.bukkit.entity.FishHook;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -16,7 +13,7 @@ import org.spongepowered.configurate.objectmapping.meta.Comment;
  * A condition that is checked when a player is trying to catch a fish
  * <p>
  * First, {@link #shouldRun(Fish)} is called to check if the fish has the condition type
- * If the fish has the condition type, {@link #check(Fish, Player, ItemStack, FishHook)} is called to check if the player meets the condition to catch the fish
+ * If the fish has the condition type, {@link #check(Fish, CatchContext)} is called to check if the player meets the condition to catch the fish
  *
  * @see dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper) to see how this is used
  */
@@ -33,7 +30,7 @@ public class DepthCondition extends CatchCondition {
      *
      * @param fish The fish to check for
      *
-     * @return true if the fish has the condition applied. @see {@link #check(Fish, Player, ItemStack, FishHook)} for the actual condition check
+     * @return true if the fish has the condition applied. @see {@link #check(Fish, CatchContext)} for the actual condition check
      */
     @Override
     public boolean shouldRun(Fish fish) {
@@ -47,24 +44,14 @@ public class DepthCondition extends CatchCondition {
      * <p>
      * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed
      *
-     * @param fish   The fish the player is trying to catch
-     * @param player The player to check
-     * @param rod    The fishing rod the player is using
-     * @param hook   The fishhook the player is using
+     * @param fish    The fish the player is trying to catch
+     * @param context The environment around the fish hook
      *
      * @return Results in true if the player can catch the fish
      */
     @Override
-    public boolean check(Fish fish, Player player, ItemStack rod, FishHook hook) {
-        int hookDepth = hook.getLocation().getBlockY();
-        for (int i = 0; i < this.waterDepth; i++) {
-            if (hookDepth == i) return true;
-
-            Block relative = hook.getLocation().getBlock().getRelative(0, -i, 0);
-            if (relative.isLiquid()) return true;
-        }
-
-        return false;
+    public boolean check(Fish fish, CatchContext context) {
+        return context.withinDepth(this.waterDepth);
     }
 
     /**
@@ -2,28 +2,24 @@ package dev.oribuin.fishing.model.condition.impl;
 
 import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
 import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.CatchContext;
 import dev.oribuin.fishing.model.fish.Fish;
 import dev.oribuin.fishing.util.Placeholders;
-import org.bukkit.Location;
-import org.bukkit.Tag;
-import org.bukkit.entity.FishHook;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 /**
  * A condition that is checked when a player is trying to catch a fish
  * <p>
  * First, {@link #shouldRun(Fish)} is called to check if the fish has the condition type
- * If the fish has the condition type, {@link #check(Fish, Player, ItemStack, FishHook)} is called to check if the player meets the condition to catch the fish
+ * If the fish has the condition type, {@link #check(Fish, CatchContext)} is called to check if the player meets the condition to catch the fish
  *
  * @see dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper) to see how this is used
  */
 @ConfigSerializable
 public class IceFishingCondition extends CatchCondition {
 
-    private static final int MIN_RADIUS = 2;
-    private static final int MAX_RADIUS = 3;
+    public static final int MIN_RADIUS = 2;
+    public static final int MAX_RADIUS = 3;
 
     /**
      * Decides whether the condition should be checked in the first place,
@@ -32,7 +28,7 @@ public class IceFishingCondition extends CatchCondition {
      *
      * @param fish The fish to check for
      *
-     * @return true if the fish has the condition applied. @see {@link #check(Fish, Player, ItemStack, FishHook)} for the actual condition check
+     * @return true if the fish has the condition applied. @see {@link #check(Fish, CatchContext)} for the actual condition check
      */
     @Override
     public boolean shouldRun(Fish fish) {
@@ -46,31 +42,14 @@ public class IceFishingCondition extends CatchCondition {
      * <p>
      * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed
      *
-     * @param fish   The fish the player is trying to catch
-     * @param player The player to check
-     * @param rod    The fishing rod the player is using
-     * @param hook   The fishhook the player is using
+     * @param fish    The fish the player is trying to catch
+     * @param context The environment around the fish hook
      *
      * @return Results in true if the player can catch the fish
      */
     @Override
-    public boolean check(Fish fish, Player player, ItemStack rod, FishHook hook) {
-        Location loc = hook.getLocation(); // Get the location of the fish hook
-
-        // Make sure the hook is surrounded by ice blocks
-        for (int x = -MAX_RADIUS; x <= MAX_RADIUS; x++) {
-            for (int z = -MAX_RADIUS; z <= MAX_RADIUS; z++) {
-                if (Math.abs(x) < MIN_RADIUS && Math.abs(z) < MIN_RADIUS) continue;
-
-                Location check = loc.clone().add(x, 0, z);
-
-                // if the block is liquid, continue
-                if (check.getBlock().isLiquid()) continue;
-                if (!Tag.ICE.isTagged(check.getBlock().getType())) return false;
-            }
-        }
-
-        return true;
+    public boolean check(Fish fish, CatchContext context) {
+        return context.iceFishing(); // Make sure the hook is surrounded by ice blocks
     }
 
     /**
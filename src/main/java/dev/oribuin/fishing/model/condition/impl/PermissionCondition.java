@@ -3,12 +3,10 @@ package dev.oribuin.fishing.model.condition.impl;
 import dev.oribuin.fishing.api.event.FishEventWrapper;
 import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
 import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.CatchContext;
 import dev.oribuin.fishing.model.condition.ConditionRegistry;
 import dev.oribuin.fishing.model.fish.Fish;
 import dev.oribuin.fishing.util.Placeholders;
-import org.bukkit.entity.FishHook;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -19,7 +17,7 @@ import java.util.List;
  * A condition that is checked when a player is trying to catch a fish
  * <p>
  * First, {@link #shouldRun(Fish)} is called to check if the fish has the condition type
- * If the fish has the condition type, {@link #check(Fish, Player, ItemStack, FishHook)} is called to check if the player meets the condition to catch the fish
+ * If the fish has the condition type, {@link #check(Fish, CatchContext)} is called to check if the player meets the condition to catch the fish
  *
  * @see dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper) to see how this is used
  */
@@ -40,7 +38,7 @@ public class PermissionCondition extends CatchCondition {
      *
      * @param fish The fish to check for
      *
-     * @return true if the fish has the condition applied. @see {@link #check(Fish, Player, ItemStack, FishHook)} for the actual condition check
+     * @return true if the fish has the condition applied. @see {@link #check(Fish, CatchContext)} for the actual condition check
      */
     @Override
     public boolean shouldRun(Fish fish) {
@@ -54,17 +52,15 @@ public class PermissionCondition extends CatchCondition {
      * <p>
      * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed
      *
-     * @param fish   The fish the player is trying to catch
-     * @param player The player to check
-     * @param rod    The fishing rod the player is using
-     * @param hook   The fishhook the player is using
+     * @param fish    The fish the player is trying to catch
+     * @param context The environment around the fish hook
      *
      * @return Results in true if the player can catch the fish
      */
     @Override
-    public boolean check(Fish fish, Player player, ItemStack rod, FishHook hook) {
+    public boolean check(Fish fish, CatchContext context) {
         int success = this.permissions.stream()
-                .map(x -> this.checkPermission(player, x))
+                .map(x -> this.checkPermission(context, x))
                 .mapToInt(x -> x ? 1 : 0)
                 .sum();
 
@@ -75,13 +71,13 @@ public class PermissionCondition extends CatchCondition {
     /**
      * Check if a player has a specific permission, if the permission starts with "!" it will check if the player doesn't have the permission
      *
-     * @param player     The player to check
+     * @param context    The catch context of the player to check
      * @param permission The permission to check
      *
      * @return true if the player has the permission
      */
-    public boolean checkPermission(Player player, String permission) {
-        return permission.startsWith("!") ? !player.hasPermission(permission.substring(1)) : player.hasPermission(permission);
+    public boolean checkPermission(CatchContext context, String permission) {
+        return permission.startsWith("!") ? !context.hasPermission(permission.substring(1)) : context.hasPermission(permission);
     }
 
     /**
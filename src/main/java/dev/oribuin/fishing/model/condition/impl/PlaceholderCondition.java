@@ -3,13 +3,11 @@ package dev.oribuin.fishing.model.condition.impl;
 import dev.oribuin.fishing.api.event.FishEventWrapper;
 import dev.oribuin.fishing.api.event.impl.ConditionCheckEvent;
 import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.CatchContext;
 import dev.oribuin.fishing.model.condition.ConditionRegistry;
 import dev.oribuin.fishing.model.condition.PlaceholderCheck;
 import dev.oribuin.fishing.model.fish.Fish;
 import dev.oribuin.fishing.util.Placeholders;
-import org.bukkit.entity.FishHook;
-import org.bukkit.entity.Player;
-import org.bukkit.inventory.ItemStack;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Comment;
 
@@ -20,7 +18,7 @@ import java.util.List;
  * A condition that is checked when a player is trying to catch a fish
  * <p>
  * First, {@link #shouldRun(Fish)} is called to check if the fish has the condition type
- * If the fish has the condition type, {@link #check(Fish, Player, ItemStack, FishHook)} is called to check if the player meets the condition to catch the fish
+ * If the fish has the condition type, {@link #check(Fish, CatchContext)} is called to check if the player meets the condition to catch the fish
  *
  * @see dev.oribuin.fishing.model.condition.ConditionRegistry#check(Fish, FishEventWrapper) to see how this is used
  */
@@ -40,13 +38,21 @@ public class PlaceholderCondition extends CatchCondition {
      *
      * @param fish The fish to check for
      *
-     * @return true if the fish has the condition applied. @see {@link #check(Fish, Player, ItemStack, FishHook)} for the actual condition check
+     * @return true if the fish has the condition applied. @see {@link #check(Fish, CatchContext)} for the actual condition check
      */
     @Override
     public boolean shouldRun(Fish fish) {
         return this.enabled && !this.placeholders.isEmpty();
     }
 
+    /**
+     * Compile all the placeholder checks when the fish are loaded
+     */
+    @Override
+    public void prepare() {
+        this.placeholders.forEach(PlaceholderCheck::prepare);
+    }
+
     /**
      * Check if the player meets the condition to catch the fish or not, Requires {@link #shouldRun(Fish)} to return true before running
      * <p>
@@ -54,27 +60,22 @@ public class PlaceholderCondition extends CatchCondition {
      * <p>
      * All conditions are passed through {@link ConditionCheckEvent} to overwrite the result if needed
      *
-     * @param fish   The fish the player is trying to catch
-     * @param player The player to check
-     * @param rod    The fishing rod the player is using
-     * @param hook   The fishhook the player is using
+     * @param fish    The fish the player is trying to catch
+     * @param context The environment around the fish hook
      *
      * @return Results in true if the player can catch the fish
      */
     @Override
-    public boolean check(Fish fish, Player player, ItemStack rod, FishHook hook) {
-        Placeholders.Builder builder = Placeholders.builder();
-        builder.addAll(fish.getPlaceholders());
-        //        builder.addAll(fish.getTierInstance()).placeholders()); // todo: tier placeholders
-        builder.add("player", player.getName());
-        Placeholders built = builder.build();
+    public boolean check(Fish fish, CatchContext context) {
+        // Layer the player on top of the fish placeholders instead of copying them
+        Placeholders built = Placeholders.of("player", context.player().getName()).over(fish.getPlaceholders());
 
         int success = 0;
         int minimum = this.minimumPlaceholders;
         List<PlaceholderCheck> checks = this.placeholders;
         int required = minimum <= 0 ? checks.size() : minimum;
         for (PlaceholderCheck check : checks) {
-            boolean result = check.attempt(player, built);
+            boolean result = check.attempt(context, built);
             if (!result && check.isRequired()) return false; // check is required to pass for everything else to go through
             if (result) success++;
 
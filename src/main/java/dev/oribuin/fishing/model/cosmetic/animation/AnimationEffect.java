@@ -0,0 +1,338 @@
+package dev.oribuin.fishing.model.cosmetic.animation;
+
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.IntFunction;
+
+/**
+ * A particle effect that is played by the {@link dev.oribuin.fishing.manager.AnimationManager} over a period of time.
+ * <p>
+ * Each frame is a list of points stored as {@code [x0, y0, z0, x1, y1, z1, ...]}, the same points can be reused for every frame
+ * or a new set of points can be given for each frame to make the effect move.
+ * <p>
+ * When the particle budget runs out part way through a frame, the rest of the frame is sent first on the next tick before
+ * the effect moves on. Points are sent to every viewer in turn, so one viewer can't use up the budget for the others.
+ */
+public final class AnimationEffect {
+
+    private static final double[] NO_POINTS = new double[0];
+
+    private final World world;
+    private final double originX;
+    private final double originY;
+    private final double originZ;
+    private final Particle particle;
+    private Object data;
+    private int count;
+    private double offset;
+    private double extra;
+    private IntFunction<double[]> frames;
+    private long delay;
+    private long duration;
+    private long interval;
+    private Collection<Player> receivers;
+    private double viewDistance;
+    private BooleanSupplier condition;
+
+    private long nextFrame;
+    private long end;
+    private int frame;
+
+    private double[] pendingPoints;
+    private List<Player> pendingViewers;
+    private int[] pendingSteps;
+    private int pointIndex;
+    private int viewerIndex;
+
+    /**
+     * Create a new particle effect around an origin, the origin is used to find who can see the effect
+     *
+     * @param origin   The centre of the effect
+     * @param particle The particle to display
+     */
+    private AnimationEffect(@NotNull Location origin, @NotNull Particle particle) {
+        this.world = origin.getWorld();
+        this.originX = origin.getX();
+        this.originY = origin.getY();
+        this.originZ = origin.getZ();
+        this.particle = particle;
+        this.count = 1;
+        this.extra = 1; // The same as the default speed of a ParticleBuilder
+        this.frames = x -> NO_POINTS;
+        this.interval = 250;
+        this.viewDistance = 32;
+    }
+
+    /**
+     * Create a new particle effect around an origin, the origin is used to find who can see the effect
+     *
+     * @param origin   The centre of the effect
+     * @param particle The particle to display
+     *
+     * @return The new effect
+     */
+    @NotNull
+    public static AnimationEffect of(@NotNull Location origin, @NotNull Particle particle) {
+        return new AnimationEffect(origin, particle);
+    }
+
+    /**
+     * Convert a list of locations into the points of a frame
+     *
+     * @param locations The locations to convert
+     *
+     * @return The points of each location
+     */
+    public static double[] toPoints(@NotNull List<Location> locations) {
+        double[] points = new double[locations.size() * 3];
+        for (int i = 0; i < locations.size(); i++) {
+            Location location = locations.get(i);
+            points[i * 3] = location.getX();
+            points[i * 3 + 1] = location.getY();
+            points[i * 3 + 2] = location.getZ();
+        }
+
+        return points;
+    }
+
+    /**
+     * Start the effect, this is called by the animation manager when the effect is played
+     *
+     * @param now The current time in milliseconds
+     */
+    public void start(long now) {
+        this.nextFrame = now + this.delay;
+        this.end = this.nextFrame + this.duration;
+        this.frame = 0;
+    }
+
+    /**
+     * Check if the next frame of the effect should be displayed
+     *
+     * @param now The current time in milliseconds
+     *
+     * @return true if the frame should be displayed
+     */
+    public boolean isDue(long now) {
+        return now >= this.nextFrame;
+    }
+
+    /**
+     * Check if the effect has no frames left to display
+     *
+     * @param now The current time in milliseconds
+     *
+     * @return true if the effect is finished
+     */
+    public boolean isFinished(long now) {
+        if (this.pendingPoints != null) return false;
+
+        return this.nextFrame > this.end || now > this.end + this.interval;
+    }
+
+    /**
+     * Check if the effect has part of a frame left to send from the last tick
+     *
+     * @return true if there is a frame still being sent
+     */
+    public boolean hasPending() {
+        return this.pendingPoints != null;
+    }
+
+    /**
+     * Display the next frame of the effect to everyone who can see it, viewers further away are shown less of the points.
+     * If there is part of a frame left from the last tick, that is sent instead of starting a new frame
+     *
+     * @param now         The current time in milliseconds
+     * @param budget      The maximum amount of particles that can be sent
+     * @param lodDistance The distance where points start being skipped for viewers
+     *
+     * @return The amount of particles sent
+     */
+    public int render(long now, int budget, double lodDistance) {
+        if (this.pendingPoints == null && !this.nextFrame(now, lodDistance)) return 0;
+
+        double[] points = this.pendingPoints;
+        List<Player> viewers = this.pendingViewers;
+        int total = points.length / 3;
+        int sent = 0;
+
+        // Send each point to every viewer before moving on to the next point, stopping where the budget runs out
+        while (this.pointIndex < total) {
+            for (; this.viewerIndex < viewers.size(); this.viewerIndex++) {
+                if (this.pointIndex % this.pendingSteps[this.viewerIndex] != 0) continue;
+                if (sent >= budget) return sent;
+
+                int i = this.pointIndex * 3;
+                viewers.get(this.viewerIndex).spawnParticle(this.particle, points[i], points[i + 1], points[i + 2], this.count, this.offset, this.offset, this.offset, this.extra, this.data);
+                sent++;
+            }
+
+            this.viewerIndex = 0;
+            this.pointIndex++;
+        }
+
+        this.pendingPoints = null;
+        this.pendingViewers = null;
+        this.pendingSteps = null;
+        return sent;
+    }
+
+    /**
+     * Move on to the next frame of the effect and find who it needs to be sent to
+     *
+     * @param now         The current time in milliseconds
+     * @param lodDistance The distance where points start being skipped for viewers
+     *
+     * @return true if the frame has any particles to send
+     */
+    private boolean nextFrame(long now, double lodDistance) {
+        double[] points = this.frames.apply(this.frame++);
+        this.nextFrame = Math.max(this.nextFrame + this.interval, now);
+        if (points.length == 0 || this.world == null) return false;
+        if (this.condition != null && !this.condition.getAsBoolean()) return false;
+
+        List<Player> viewers = this.getViewers();
+        if (viewers.isEmpty()) return false;
+
+        double near = lodDistance * lodDistance;
+        double far = (lodDistance * 2) * (lodDistance * 2);
+        int[] steps = new int[viewers.size()];
+        for (int i = 0; i < steps.length; i++) {
+            Location location = viewers.get(i).getLocation();
+            double dx = location.getX() - this.originX;
+            double dy = location.getY() - this.originY;
+            double dz = location.getZ() - this.originZ;
+            double distance = dx * dx + dy * dy + dz * dz;
+
+            // Show every point up close, every second point further away and every fourth point past that
+            steps[i] = distance <= near ? 1 : distance <= far ? 2 : 4;
+        }
+
+        this.pendingPoints = points;
+        this.pendingViewers = viewers;
+        this.pendingSteps = steps;
+        this.pointIndex = 0;
+        this.viewerIndex = 0;
+        return true;
+    }
+
+    /**
+     * Get all the players who can see the effect
+     *
+     * @return The viewers of the effect
+     */
+    private List<Player> getViewers() {
+        List<Player> result = new ArrayList<>();
+        if (this.receivers != null) {
+            for (Player player : this.receivers) {
+                if (player.isOnline() && player.getWorld() == this.world) result.add(player);
+            }
+
+            return result;
+        }
+
+        double range = this.viewDistance * this.viewDistance;
+        for (Player player : this.world.getPlayers()) {
+            Location location = player.getLocation();
+            double dx = location.getX() - this.originX;
+            double dy = location.getY() - this.originY;
+            double dz = location.getZ() - this.originZ;
+            if (dx * dx + dy * dy + dz * dz <= range) result.add(player);
+        }
+
+        return result;
+    }
+
+    /**
+     * Set the points that are displayed every frame
+     *
+     * @param points The points of the frame
+     *
+     * @return The effect
+     */
+    public AnimationEffect points(double @NotNull [] points) {
+        this.frames = x -> points;
+        return this;
+    }
+
+    /**
+     * Set the points that are displayed for each frame
+     *
+     * @param frames The function to get the points of each frame
+     *
+     * @return The effect
+     */
+    public AnimationEffect frames(@NotNull IntFunction<double[]> frames) {
+        this.frames = frames;
+        return this;
+    }
+
+    public AnimationEffect data(@Nullable Object data) {
+        this.data = data;
+        return this;
+    }
+
+    public AnimationEffect count(int count) {
+        this.count = count;
+        return this;
+    }
+
+    public AnimationEffect offset(double offset) {
+        this.offset = offset;
+        return this;
+    }
+
+    public AnimationEffect extra(double extra) {
+        this.extra = extra;
+        return this;
+    }
+
+    public AnimationEffect delay(@NotNull Duration delay) {
+        this.delay = delay.toMillis();
+        return this;
+    }
+
+    public AnimationEffect duration(@NotNull Duration duration) {
+        this.duration = duration.toMillis();
+        return this;
+    }
+
+    public AnimationEffect interval(@NotNull Duration interval) {
+        this.interval = Math.max(1, interval.toMillis());
+        return this;
+    }
+
+    public AnimationEffect receivers(@Nullable Collection<Player> receivers) {
+        this.receivers = receivers;
+        return this;
+    }
+
+    public AnimationEffect viewDistance(double viewDistance) {
+        this.viewDistance = viewDistance;
+        return this;
+    }
+
+    /**
+     * Only display a frame while a condition is met, frames are skipped while it isn't
+     *
+     * @param condition The condition to check before each frame
+     *
+     * @return The effect
+     */
+    public AnimationEffect condition(@Nullable BooleanSupplier condition) {
+        this.condition = condition;
+        return this;
+    }
+
+}
@@ -1,16 +1,17 @@
 package dev.oribuin.fishing.model.cosmetic.animation.particle;
 
-import com.destroystokyo.paper.ParticleBuilder;
+import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.config.ParticleWrapper;
 import dev.oribuin.fishing.model.cosmetic.animation.Animation;
-import dev.oribuin.fishing.scheduler.PluginScheduler;
+import dev.oribuin.fishing.model.cosmetic.animation.AnimationEffect;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Create a new type of animation for the plugin
@@ -21,6 +22,7 @@ public abstract class ParticleAnimation extends Animation<Player> {
 
     protected Duration duration = Duration.ofSeconds(5);
     protected Duration delay = Duration.ofSeconds(1);
+    protected Duration interval = Duration.ofMillis(250);
     protected ParticleWrapper particle = new ParticleWrapper();
     protected boolean targetOnly = false;
     protected int offsetY;
@@ -34,20 +36,93 @@ public abstract class ParticleAnimation extends Animation<Player> {
      */
     public abstract List<Location> getPositions(Location center);
 
+    /**
+     * Get the frames of the animation as points relative to the centre, stored as {@code [x0, y0, z0, x1, y1, z1, ...]}.
+     * Animations that return frames are moved to where they are played instead of calculating their positions every time.
+     *
+     * @return The frames of the animation, null if the positions should be used instead
+     */
+    public double[][] getFrames() {
+        return null;
+    }
+
+    /**
+     * Get the frames of the animation for where it is being played, for shapes that depend on where they are played
+     *
+     * @param center The centre of the animation
+     *
+     * @return The frames of the animation, null if the positions should be used instead
+     *
+     * @see #getFrames()
+     */
+    public double[][] getFrames(Location center) {
+        return this.getFrames();
+    }
+
+    /**
+     * Get the point that the frames are moved to when the animation is played
+     *
+     * @param center The centre of the animation
+     *
+     * @return The point the frames are relative to
+     */
+    protected Location getOrigin(Location center) {
+        return center;
+    }
+
+    /**
+     * Move the points of a frame to the centre of the animation
+     *
+     * @param center  The centre of the animation
+     * @param offsets The points relative to the centre
+     *
+     * @return The positions of each point
+     */
+    protected List<Location> toLocations(Location center, double[] offsets) {
+        List<Location> results = new ArrayList<>(offsets.length / 3);
+        for (int i = 0; i + 2 < offsets.length; i += 3) {
+            results.add(center.clone().add(offsets[i], offsets[i + 1], offsets[i + 2]));
+        }
+
+        return results;
+    }
+
     /**
      * Display the animation to the nearby audience, usually the player.
+     * The animation is played by the {@link dev.oribuin.fishing.manager.AnimationManager} for the duration of the animation
      *
      * @param position The centre point of the animation
      * @param target   The audience to display the animation to.
      */
     @Override
     public void display(Location position, Player target) {
-        ParticleBuilder builder = this.particle.getBuilder();
-        if (this.targetOnly && target.isOnline()) builder.receivers(target);
-        PluginScheduler.get().runTaskTimerAsync(() -> { // TODO: See about doing this all on the same task </3
-            List<Location> positions = this.getPositions(position);
-            positions.forEach(location -> builder.clone().location(position).spawn());
-        }, this.delay.toSeconds(), this.duration.toSeconds(), TimeUnit.SECONDS);
+        Location center = position.clone().add(0, this.offsetY, 0);
+        AnimationEffect effect = AnimationEffect.of(position, this.particle.getParticle())
+                .data(this.particle.getData())
+                .count(this.particle.getCount())
+                .delay(this.delay)
+                .duration(this.duration)
+                .interval(this.interval);
+
+        double[][] frames = this.getFrames(center);
+        if (frames == null || frames.length == 0) {
+            effect.points(AnimationEffect.toPoints(this.getPositions(center)));
+        } else {
+            // Each frame is only moved to the centre the first time it is shown
+            Location origin = this.getOrigin(center);
+            double[][] translated = new double[frames.length][];
+            effect.frames(frame -> {
+                int index = frame % frames.length;
+                if (translated[index] == null) {
+                    translated[index] = ShapeGeometry.translate(frames[index], origin.getX(), origin.getY(), origin.getZ());
+                }
+
+                return translated[index];
+            });
+        }
+
+        if (this.targetOnly && target.isOnline()) effect.receivers(List.of(target));
+        FishingPlugin.get().getAnimationManager().play(effect);
     }
 
 }
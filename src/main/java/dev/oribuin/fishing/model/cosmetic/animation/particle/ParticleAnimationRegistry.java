@@ -2,7 +2,13 @@ package dev.oribuin.fishing.model.cosmetic.animation.particle;
 
 import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.CircleParticleAnimation;
 import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.CubeParticleAnimation;
+import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.GravityWellParticleAnimation;
+import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.HelixScannerParticleAnimation;
+import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.MagnetParticleAnimation;
+import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.PulseParticleAnimation;
+import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.SphereParticleAnimation;
 import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.SquareParticleAnimation;
+import dev.oribuin.fishing.model.cosmetic.animation.particle.impl.VortexParticleAnimation;
 
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -16,16 +22,16 @@ public class ParticleAnimationRegistry {
         register("circle", CircleParticleAnimation::new);
         register("cube", CubeParticleAnimation::new);
         register("square", SquareParticleAnimation::new);
-        //        register("sphere", SphereParticleAnimation::new); // TODO
+        register("sphere", SphereParticleAnimation::new);
+        register("vortex", VortexParticleAnimation::new);
+        register("pulse", PulseParticleAnimation::new);
+        register("magnet", MagnetParticleAnimation::new);
+        register("helixscanner", HelixScannerParticleAnimation::new);
+        register("gravitywell", GravityWellParticleAnimation::new);
         //        register("raining", RainingParticleAnimation::new); // TODO
-        //        register("vortex", VortexParticleAnimation::new); // TODO who knows
         //        register("batman", SphereParticleAnimation::new); // TODO batman logo :)
-        //        register("pulse", PulseParticleAnimation::new); // TODO particle wave going outwards
-        //        register("magnet", MagnetParticleAnimation::new); // TODO particle wave coming inwards
         //        register("fairy", FairyParticleAnimation::new); // TODO just something flying around 
         //        register("scanner", ScannerParticleAnimation::new); // TODO circle but going up and down
-        //        register("helixscanner", HelixScannerParticleAnimation::new); // TODO dots going up and down & spinning
-        //        register("gravitywell", GravityWellParticleAnimation::new); // TODO dots going up and down & spinning
         //        register("somethingaboutlandbeingfunky", WhoKnows::new); // TODO think just the land around you glowing with particles 
     }
 
@@ -1,11 +1,10 @@
 package dev.oribuin.fishing.model.cosmetic.animation.particle.impl;
 
 import dev.oribuin.fishing.model.cosmetic.animation.particle.ParticleAnimation;
-import dev.oribuin.fishing.util.math.MathL;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
 import org.bukkit.Location;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -16,6 +15,7 @@ import java.util.List;
 public class CircleParticleAnimation extends ParticleAnimation {
 
     private int radius = 5;
+    private int points = 120;
 
     /**
      * Get a variety of locations around a specified radius
@@ -26,16 +26,17 @@ public class CircleParticleAnimation extends ParticleAnimation {
      */
     @Override
     public List<Location> getPositions(Location center) {
-        List<Location> results = new ArrayList<>();
-        int numSteps = 120;
-        for (int i = 0; i < numSteps; i++) {
-            double dx = MathL.cos(Math.PI * 2 * ((double) i / numSteps)) * this.radius;
-            double dz = MathL.sin(Math.PI * 2 * ((double) i / numSteps)) * this.radius;
-            results.add(center.clone().add(dx, 0, dz));
-        }
-
-        return results;
+        return this.toLocations(center, this.getFrames()[0]);
     }
 
+    /**
+     * Get the points around the circle, shared with every circle of the same size
+     *
+     * @return The frames of the animation
+     */
+    @Override
+    public double[][] getFrames() {
+        return ShapeGeometry.circle(this.radius, this.points);
+    }
 
 }
@@ -1,11 +1,10 @@
 package dev.oribuin.fishing.model.cosmetic.animation.particle.impl;
 
 import dev.oribuin.fishing.model.cosmetic.animation.particle.ParticleAnimation;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
 import org.bukkit.Location;
-import org.bukkit.World;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -42,39 +41,40 @@ public class CubeParticleAnimation extends ParticleAnimation {
     }
 
     /**
-     * Get a variety of locations around a specified radius
+     * Get the centre of every block along the walls of the cube
      *
      * @param center The centre of the animation
      *
-     * @return The positions of it
+     * @return The positions of each block
      */
     @Override
     public List<Location> getPositions(Location center) {
-        List<Location> bounds = new ArrayList<>();
-
-        Location min = center.clone().subtract(radiusX, (double) radiusY / 2, radiusZ);
-        Location max = center.clone().add(radiusX, (double) radiusY / 2, radiusZ);
-        double minX = min.getBlockX();
-        double minZ = min.getBlockZ();
-        double maxX = max.getBlockX();
-        double maxZ = max.getBlockZ();
-        int minY = min.getBlockY();
-        int maxY = max.getBlockY();
-
-        World world = center.getWorld();
-        for (int y = minY; y < maxY; y++) {
-            for (double x = minX; x <= maxX; x++) {
-                bounds.add(new Location(world, x, y, minZ).toCenterLocation());
-                bounds.add(new Location(world, x, y, maxZ).toCenterLocation());
-            }
+        return this.toLocations(this.getOrigin(center), this.getFrames(center)[0]);
+    }
 
-            for (double z = minZ; z <= maxZ; z++) {
-                bounds.add(new Location(world, minX, y, z).toCenterLocation());
-                bounds.add(new Location(world, maxX, y, z).toCenterLocation());
-            }
-        }
+    /**
+     * Get the walls of the cube, shared with every cube of the same size
+     *
+     * @param center The centre of the animation
+     *
+     * @return The frames of the animation
+     */
+    @Override
+    public double[][] getFrames(Location center) {
+        boolean raised = center.getY() - center.getBlockY() >= 0.5;
+        return ShapeGeometry.cube(this.radiusX, this.radiusY, this.radiusZ, raised);
+    }
 
-        return bounds.stream().distinct().toList();
+    /**
+     * The cube lines up with the blocks around it, so it is placed around the centre of the block
+     *
+     * @param center The centre of the animation
+     *
+     * @return The centre of the block
+     */
+    @Override
+    protected Location getOrigin(Location center) {
+        return center.toCenterLocation();
     }
 
     public int getRadiusX() {
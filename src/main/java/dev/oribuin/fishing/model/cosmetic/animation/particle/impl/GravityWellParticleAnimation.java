@@ -0,0 +1,44 @@
+package dev.oribuin.fishing.model.cosmetic.animation.particle.impl;
+
+import dev.oribuin.fishing.model.cosmetic.animation.particle.ParticleAnimation;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
+import org.bukkit.Location;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+import java.util.List;
+
+/**
+ * Create a funnel of particles spiralling down into the centre
+ */
+@ConfigSerializable
+@SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
+public class GravityWellParticleAnimation extends ParticleAnimation {
+
+    private double radius = 4;
+    private double height = 3;
+    private int points = 40;
+    private int frames = 20;
+
+    /**
+     * Get the first frame of the funnel, with each point part of the way through its fall into the centre
+     *
+     * @param center The bottom of the funnel
+     *
+     * @return The positions of each point
+     */
+    @Override
+    public List<Location> getPositions(Location center) {
+        return this.toLocations(center, this.getFrames()[0]);
+    }
+
+    /**
+     * Get the frames of the funnel, shared with every gravity well of the same size
+     *
+     * @return The frames of the animation
+     */
+    @Override
+    public double[][] getFrames() {
+        return ShapeGeometry.gravityWell(this.radius, this.height, this.points, this.frames);
+    }
+
+}
@@ -0,0 +1,44 @@
+package dev.oribuin.fishing.model.cosmetic.animation.particle.impl;
+
+import dev.oribuin.fishing.model.cosmetic.animation.particle.ParticleAnimation;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
+import org.bukkit.Location;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+import java.util.List;
+
+/**
+ * Create two strands of particles spinning while they move up and down
+ */
+@ConfigSerializable
+@SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
+public class HelixScannerParticleAnimation extends ParticleAnimation {
+
+    private double radius = 2;
+    private double height = 3;
+    private int points = 12;
+    private int frames = 40;
+
+    /**
+     * Get both strands of the scanner at the bottom of their path
+     *
+     * @param center The bottom of the scanner
+     *
+     * @return The positions of each point in both strands
+     */
+    @Override
+    public List<Location> getPositions(Location center) {
+        return this.toLocations(center, this.getFrames()[0]);
+    }
+
+    /**
+     * Get the frames of the scanner, shared with every scanner of the same size
+     *
+     * @return The frames of the animation
+     */
+    @Override
+    public double[][] getFrames() {
+        return ShapeGeometry.helixScanner(this.radius, this.height, this.points, this.frames);
+    }
+
+}
@@ -0,0 +1,43 @@
+package dev.oribuin.fishing.model.cosmetic.animation.particle.impl;
+
+import dev.oribuin.fishing.model.cosmetic.animation.particle.ParticleAnimation;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
+import org.bukkit.Location;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+import java.util.List;
+
+/**
+ * Create a wave of particles moving outwards from the centre
+ */
+@ConfigSerializable
+@SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
+public class PulseParticleAnimation extends ParticleAnimation {
+
+    private double radius = 5;
+    private int points = 60;
+    private int frames = 10;
+
+    /**
+     * Get the first and smallest ring of the wave, before it moves out to the full radius
+     *
+     * @param center The centre the ring moves away from
+     *
+     * @return The positions of each point in the ring
+     */
+    @Override
+    public List<Location> getPositions(Location center) {
+        return this.toLocations(center, this.getFrames()[0]);
+    }
+
+    /**
+     * Get the frames of the wave, shared with every pulse of the same size
+     *
+     * @return The frames of the animation
+     */
+    @Override
+    public double[][] getFrames() {
+        return ShapeGeometry.pulse(this.radius, this.points, this.frames);
+    }
+
+}
@@ -0,0 +1,42 @@
+package dev.oribuin.fishing.model.cosmetic.animation.particle.impl;
+
+import dev.oribuin.fishing.model.cosmetic.animation.particle.ParticleAnimation;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
+import org.bukkit.Location;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+import java.util.List;
+
+/**
+ * Create a sphere of particles around the centre
+ */
+@ConfigSerializable
+@SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
+public class SphereParticleAnimation extends ParticleAnimation {
+
+    private double radius = 3;
+    private int points = 150;
+
+    /**
+     * Get the points spread evenly over the surface of the sphere
+     *
+     * @param center The centre of the sphere
+     *
+     * @return The positions of each point
+     */
+    @Override
+    public List<Location> getPositions(Location center) {
+        return this.toLocations(center, this.getFrames()[0]);
+    }
+
+    /**
+     * Get the points spread over the sphere, shared with every sphere of the same size
+     *
+     * @return The frames of the animation
+     */
+    @Override
+    public double[][] getFrames() {
+        return ShapeGeometry.sphere(this.radius, this.points);
+    }
+
+}
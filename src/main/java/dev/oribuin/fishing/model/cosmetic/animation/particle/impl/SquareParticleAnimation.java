@@ -1,11 +1,10 @@
 package dev.oribuin.fishing.model.cosmetic.animation.particle.impl;
 
 import dev.oribuin.fishing.model.cosmetic.animation.particle.ParticleAnimation;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
 import org.bukkit.Location;
-import org.bukkit.World;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -38,36 +37,37 @@ public class SquareParticleAnimation extends ParticleAnimation {
     }
 
     /**
-     * Get a variety of locations around a specified radius
+     * Get the centre of every block along the edge of the square
      *
      * @param center The centre of the animation
      *
-     * @return The positions of it
+     * @return The positions of each block
      */
     @Override
     public List<Location> getPositions(Location center) {
-        List<Location> bounds = new ArrayList<>();
-
-        Location min = center.clone().subtract(radiusX, 0, radiusZ);
-        Location max = center.clone().add(radiusX, 0, radiusZ);
-        double minX = min.getBlockX();
-        double minZ = min.getBlockZ();
-        double maxX = max.getBlockX();
-        double maxZ = max.getBlockZ();
-        double y = center.getY() + this.offsetY;
-
-        World world = center.getWorld();
-        for (double x = minX; x <= maxX; x++) {
-            bounds.add(new Location(world, x, y, minZ).toCenterLocation());
-            bounds.add(new Location(world, x, y, maxZ).toCenterLocation());
-        }
+        return this.toLocations(this.getOrigin(center), this.getFrames(center)[0]);
+    }
 
-        for (double z = minZ; z <= maxZ; z++) {
-            bounds.add(new Location(world, minX, y, z).toCenterLocation());
-            bounds.add(new Location(world, maxX, y, z).toCenterLocation());
-        }
+    /**
+     * Get the edge of the square, shared with every square of the same size
+     *
+     * @return The frames of the animation
+     */
+    @Override
+    public double[][] getFrames() {
+        return ShapeGeometry.square(this.radiusX, this.radiusZ, 0); // The offset is already added to the centre when the animation is played
+    }
 
-        return bounds.stream().distinct().toList();
+    /**
+     * The square lines up with the blocks around it, so it is placed around the centre of the block
+     *
+     * @param center The centre of the animation
+     *
+     * @return The centre of the block
+     */
+    @Override
+    protected Location getOrigin(Location center) {
+        return center.toCenterLocation();
     }
 
     public int getRadiusX() {
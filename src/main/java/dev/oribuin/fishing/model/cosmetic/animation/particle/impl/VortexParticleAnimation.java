@@ -0,0 +1,44 @@
+package dev.oribuin.fishing.model.cosmetic.animation.particle.impl;
+
+import dev.oribuin.fishing.model.cosmetic.animation.particle.ParticleAnimation;
+import dev.oribuin.fishing.util.math.ShapeGeometry;
+import org.bukkit.Location;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+
+import java.util.List;
+
+/**
+ * Create a spiral of particles spinning around the centre
+ */
+@ConfigSerializable
+@SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
+public class VortexParticleAnimation extends ParticleAnimation {
+
+    private double radius = 3;
+    private double height = 4;
+    private int points = 60;
+    private int frames = 20;
+
+    /**
+     * Get the points of the spiral, from the widest turn at the bottom to the narrowest turn at the top
+     *
+     * @param center The bottom of the spiral
+     *
+     * @return The positions of each point
+     */
+    @Override
+    public List<Location> getPositions(Location center) {
+        return this.toLocations(center, this.getFrames()[0]);
+    }
+
+    /**
+     * Get the frames of the spinning spiral, shared with every vortex of the same size
+     *
+     * @return The frames of the animation
+     */
+    @Override
+    public double[][] getFrames() {
+        return ShapeGeometry.vortex(this.radius, this.height, this.points, this.frames);
+    }
+
+}
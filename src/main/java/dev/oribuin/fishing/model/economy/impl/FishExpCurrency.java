@@ -1,6 +1,5 @@
 package dev.oribuin.fishing.model.economy.impl;
 
-import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.model.economy.Currency;
 import dev.oribuin.fishing.storage.Fisher;
 import org.bukkit.OfflinePlayer;
@@ -51,8 +50,7 @@ public class FishExpCurrency implements Currency<Integer> {
     @Override
     public void give(@NotNull OfflinePlayer player, @NotNull Integer amount) {
         Fisher fisher = this.getFisher(player);
-        fisher.setExperience(fisher.getExperience() + amount);
-        this.saveUser(fisher);
+        fisher.addExperience(amount);
     }
 
     /**
@@ -64,17 +62,7 @@ public class FishExpCurrency implements Currency<Integer> {
     @Override
     public void take(@NotNull OfflinePlayer player, @NotNull Integer amount) {
         Fisher fisher = this.getFisher(player);
-        fisher.setExperience(fisher.getExperience() - amount);
-        this.saveUser(fisher);
-    }
-
-    /**
-     * Save a user's fisher data to the plugin
-     *
-     * @param fisher The fisher to save
-     */
-    private void saveUser(Fisher fisher) {
-        FishingPlugin.get().getDataManager().saveUser(fisher);
+        fisher.addExperience(-amount);
     }
 
 }
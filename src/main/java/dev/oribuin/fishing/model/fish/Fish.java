@@ -2,6 +2,7 @@ package dev.oribuin.fishing.model.fish;
 
 import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.config.item.ItemConstruct;
+import dev.oribuin.fishing.manager.TierManager;
 import dev.oribuin.fishing.model.condition.CatchCondition;
 import dev.oribuin.fishing.model.loot.LootRegistry;
 import dev.oribuin.fishing.storage.util.KeyRegistry;
@@ -27,12 +28,15 @@ public class Fish {
     private String displayName;
     @Comment("The lore description of the fish")
     private List<String> description;
+    @Comment("How often the fish is caught compared to the other fish in the tier, fish with a weight of 2 are caught twice as often as 1")
+    private double weight;
     @Comment("The list of conditions for the fish")
     private List<CatchCondition> conditions;
     @Comment("The itemstack design for the fish")
     private ItemConstruct construct;
-    private transient ItemStack itemStack; // used so we're not serializing the same item over and over and over again
+    private transient volatile Prototype prototype; // used so we're not serializing the same item over and over and over again
     private transient String tier;
+    private transient volatile Placeholders placeholders;
 
     public Fish() {
         this(
@@ -59,27 +63,58 @@ public class Fish {
         this.name = name;
         this.displayName = StringUtils.capitalize(name.toLowerCase().replace("_", " "));
         this.description = description;
+        this.weight = 1.0;
         this.conditions = conditions;
         this.construct = construct;
     }
 
     /**
-     * Create and obtain the itemstack of the fish, We only want to cache the itemstack if it's been used
+     * Create and obtain the itemstack of the fish, the item is usually rendered when the tiers are reloaded.
+     * If it hasn't been rendered for the current catalog yet, it will be rendered now and cached
      *
      * @return The item stack of the fish
      */
     public ItemStack buildItem() {
-        if (this.itemStack != null)
-            return this.itemStack.clone();
+        TierManager manager = FishingPlugin.get().getTierManager();
+        int generation = manager.getGeneration();
+
+        Prototype current = this.prototype;
+        if (current != null && current.generation() == generation)
+            return current.item().clone();
 
         // Get the tier of the fish
-        Tier fishTier = FishingPlugin.get().getTierManager().get(this.tier);
+        Tier fishTier = manager.get(this.tier);
         if (fishTier == null) return null;
 
+        ItemStack item = this.render(fishTier);
+        this.prototype = new Prototype(generation, item);
+        return item.clone(); // Clone the item stack to prevent any changes
+    }
+
+    /**
+     * Render the item of the fish ahead of time so the first catch doesn't have to, this is safe to call off the main thread
+     *
+     * @param fishTier   The tier the fish belongs to
+     * @param generation The catalog generation the item is rendered for
+     */
+    public void warmItem(@NotNull Tier fishTier, int generation) {
+        Prototype current = this.prototype;
+        if (current != null && current.generation() == generation) return;
+
+        this.prototype = new Prototype(generation, this.render(fishTier));
+    }
+
+    /**
+     * Create a new item stack for the fish with all the placeholders applied
+     *
+     * @param fishTier The tier the fish belongs to
+     *
+     * @return The rendered item stack
+     */
+    @NotNull
+    private ItemStack render(@NotNull Tier fishTier) {
         // Add all the information to the item stack
-        Placeholders.Builder placeholders = Placeholders.builder();
-        placeholders.addAll(this.getPlaceholders());
-        placeholders.addAll(this.getTierInstance().getPlaceholders());
+        Placeholders placeholders = this.getPlaceholders(fishTier);
 
         ItemConstruct tierConstruct = fishTier.getItem().clone();
         // Apply fish description to the lore 
@@ -88,16 +123,14 @@ public class Fish {
         tierConstruct.setLore(lore);
         
         ItemStack fishConstruct = this.construct.create();
-        this.itemStack = tierConstruct.createCustom(
+        return tierConstruct.createCustom(
                 fishConstruct,
-                placeholders.build(),
+                placeholders,
                 stack -> stack.editMeta(itemMeta -> {
                     PersistentDataContainer container = itemMeta.getPersistentDataContainer();
                     container.set(KeyRegistry.FISH_NAME.key(), KeyRegistry.FISH_TYPE, this.name);
                     container.set(KeyRegistry.FISH_TYPE.key(), KeyRegistry.FISH_NAME, this.tier);
                 }));
-
-        return this.itemStack.clone(); // Clone the item stack to prevent any changes
     }
 
     @NotNull
@@ -105,11 +138,35 @@ public class Fish {
         return FishingPlugin.get().getTierManager().get(this.tier);
     }
 
+    /**
+     * All the placeholders for the fish, these are only built once and reused until the fish is changed
+     *
+     * @return The fish placeholders
+     */
     public Placeholders getPlaceholders() {
+        Placeholders current = this.placeholders;
+        if (current == null) this.placeholders = current = this.buildPlaceholders();
+
+        return current;
+    }
+
+    /**
+     * All the placeholders for the fish layered with the placeholders of its tier, the tier values are used first
+     *
+     * @param fishTier The tier the fish belongs to
+     *
+     * @return The fish and tier placeholders
+     */
+    public Placeholders getPlaceholders(@NotNull Tier fishTier) {
+        return fishTier.getPlaceholders().over(this.getPlaceholders());
+    }
+
+    private Placeholders buildPlaceholders() {
         Placeholders.Builder builder = Placeholders.builder()
                 .add("id", this.name)
                 .add("name", this.displayName)
                 .add("tier", StringUtils.capitalize(this.tier))
+                .add("weight", this.weight)
                 .add("description", FishUtils.kyorify(String.join("<br>", this.description)));
 
         // Add all the placeholders from the conditions
@@ -126,7 +183,7 @@ public class Fish {
                ", description=" + description +
                ", conditions=" + conditions +
                ", construct=" + construct +
-               ", itemStack=" + itemStack +
+               ", prototype=" + prototype +
                ", tier='" + tier + '\'' +
                '}';
     }
@@ -137,6 +194,7 @@ public class Fish {
 
     public void setName(String name) {
         this.name = name;
+        this.placeholders = null;
     }
 
     public String getDisplayName() {
@@ -145,6 +203,7 @@ public class Fish {
 
     public void setDisplayName(String displayName) {
         this.displayName = displayName;
+        this.placeholders = null;
     }
 
     public List<String> getDescription() {
@@ -153,6 +212,16 @@ public class Fish {
 
     public void setDescription(List<String> description) {
         this.description = description;
+        this.placeholders = null;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+        this.placeholders = null;
     }
 
     public List<CatchCondition> getConditions() {
@@ -161,6 +230,7 @@ public class Fish {
 
     public void setConditions(List<CatchCondition> conditions) {
         this.conditions = conditions;
+        this.placeholders = null;
     }
 
     public ItemConstruct getConstruct() {
@@ -172,11 +242,12 @@ public class Fish {
     }
 
     public ItemStack getItemStack() {
-        return itemStack;
+        Prototype current = this.prototype;
+        return current != null ? current.item() : null;
     }
 
     public void setItemStack(ItemStack itemStack) {
-        this.itemStack = itemStack;
+        this.prototype = itemStack != null ? new Prototype(FishingPlugin.get().getTierManager().getGeneration(), itemStack) : null;
     }
 
     public String getTier() {
@@ -185,5 +256,15 @@ public class Fish {
 
     public void setTier(String tier) {
         this.tier = tier;
+        this.placeholders = null;
     }
+
+    /**
+     * A rendered fish item and the catalog generation it was rendered for
+     *
+     * @param generation The catalog generation
+     * @param item       The rendered item, this should always be cloned before being given out
+     */
+    private record Prototype(int generation, ItemStack item) {}
+
 }
@@ -0,0 +1,258 @@
+package dev.oribuin.fishing.model.fish;
+
+import dev.oribuin.fishing.model.condition.CatchCondition;
+import dev.oribuin.fishing.model.condition.CatchContext;
+import dev.oribuin.fishing.model.condition.Weather;
+import dev.oribuin.fishing.util.math.AliasTable;
+import net.kyori.adventure.key.Key;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.random.RandomGenerator;
+
+/**
+ * An index of the fish in a tier, grouped by the environment they can be caught in.
+ * <p>
+ * Static conditions ({@link CatchCondition#isStatic()}) only depend on the world, biome, weather and boat of a catch,
+ * so they only need to be checked once for each environment. Every other condition still needs to be checked per catch.
+ * <p>
+ * Each group of fish has an {@link AliasTable} built from the fish weights, so picking a fish doesn't scan the whole group.
+ */
+public final class FishIndex {
+
+    private static final int MAX_ATTEMPTS = 8;
+
+    private final Candidates all;
+    private final Fish[] unrestricted;
+    private final Fish[] restricted;
+    private final Candidates unrestrictedCandidates;
+    private final Map<EnvironmentKey, Candidates> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * Create a new index for all the fish in a tier
+     *
+     * @param fish The fish in the tier
+     */
+    public FishIndex(@NotNull Collection<Fish> fish) {
+        List<Fish> unrestricted = new ArrayList<>();
+        List<Fish> restricted = new ArrayList<>();
+        for (Fish current : fish) {
+            if (hasStaticConditions(current)) restricted.add(current);
+            else unrestricted.add(current);
+        }
+
+        this.all = new Candidates(fish.toArray(Fish[]::new), false);
+        this.unrestricted = unrestricted.toArray(Fish[]::new);
+        this.restricted = restricted.toArray(Fish[]::new);
+        this.unrestrictedCandidates = new Candidates(this.unrestricted, true);
+    }
+
+    /**
+     * Get all the fish that can be caught in the environment of a catch, only the static conditions have been checked
+     *
+     * @param context The environment of the catch
+     *
+     * @return The fish that can be caught
+     */
+    @NotNull
+    public Candidates getCandidates(@NotNull CatchContext context) {
+        if (this.restricted.length == 0) return this.unrestrictedCandidates;
+
+        EnvironmentKey key = new EnvironmentKey(context.world().getName(), context.biome(), context.weather(), context.inBoat());
+        return this.candidates.computeIfAbsent(key, x -> new Candidates(this.filter(context), true));
+    }
+
+    /**
+     * All the fish in the index, none of the conditions have been checked
+     *
+     * @return The fish that can be caught
+     */
+    @NotNull
+    public Candidates getAll() {
+        return this.all;
+    }
+
+    /**
+     * Filter all the fish by their static conditions
+     *
+     * @param context The environment of the catch
+     *
+     * @return The fish that passed
+     */
+    private Fish[] filter(CatchContext context) {
+        List<Fish> result = new ArrayList<>(List.of(this.unrestricted));
+        for (Fish current : this.restricted) {
+            if (checkStatic(current, context)) result.add(current);
+        }
+
+        return result.toArray(Fish[]::new);
+    }
+
+    /**
+     * Check whether a fish has any enabled static conditions
+     *
+     * @param fish The fish to check
+     *
+     * @return true if the fish has static conditions
+     */
+    private static boolean hasStaticConditions(Fish fish) {
+        for (CatchCondition condition : fish.getConditions()) {
+            if (condition.isStatic() && condition.shouldRun(fish)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Check all the static conditions for a fish
+     *
+     * @param fish    The fish to check
+     * @param context The environment of the catch
+     *
+     * @return true if all the static conditions passed
+     */
+    private static boolean checkStatic(Fish fish, CatchContext context) {
+        for (CatchCondition condition : fish.getConditions()) {
+            if (!condition.isStatic() || !condition.shouldRun(fish)) continue;
+            if (!condition.check(fish, context)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Check whether a fish has any enabled conditions that have to be checked every catch
+     *
+     * @param fish       The fish to check
+     * @param skipStatic Whether the static conditions have already been checked
+     *
+     * @return true if the fish has conditions left to check
+     */
+    private static boolean hasConditions(Fish fish, boolean skipStatic) {
+        for (CatchCondition condition : fish.getConditions()) {
+            if (skipStatic && condition.isStatic()) continue;
+            if (condition.shouldRun(fish)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * A group of fish that can be caught, picked from by their weight
+     */
+    public static final class Candidates {
+
+        private final Fish[] fish;
+        private final AliasTable table;
+        private final boolean conditional;
+
+        /**
+         * Create a new group of fish and build their alias table
+         *
+         * @param fish       The fish in the group
+         * @param skipStatic Whether the static conditions of the fish have already been checked
+         */
+        private Candidates(Fish[] fish, boolean skipStatic) {
+            this.fish = fish;
+            this.table = new AliasTable(Arrays.stream(fish).mapToDouble(Fish::getWeight).toArray());
+            this.conditional = Arrays.stream(fish).anyMatch(x -> hasConditions(x, skipStatic));
+        }
+
+        /**
+         * Pick a random fish by their weight from all the fish that pass the filter
+         * <p>
+         * Fish are first drawn from the alias table and checked one at a time, only if that fails a few times are all the fish checked.
+         * Each fish is only checked once, so conditions that are random or fire events aren't given extra tries.
+         *
+         * @param filter The filter for the fish that can be caught
+         * @param random The random generator to use
+         *
+         * @return The fish picked, null if no fish passed
+         */
+        @Nullable
+        public Fish select(@NotNull Predicate<Fish> filter, @NotNull RandomGenerator random) {
+            if (this.table.isEmpty()) return null;
+            if (!this.conditional) return this.fish[this.table.sample(random)];
+
+            BitSet tested = new BitSet(this.fish.length);
+            BitSet passed = new BitSet(this.fish.length);
+
+            // Drawing by weight and rejecting fish that can't be caught keeps the same odds between the remaining fish
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                int index = this.table.sample(random);
+                if (this.test(index, filter, tested, passed)) return this.fish[index];
+            }
+
+            // Most of the fish can't be caught, check all of them instead
+            double total = 0;
+            for (int i = 0; i < this.fish.length; i++) {
+                if (this.fish[i].getWeight() <= 0 || !this.test(i, filter, tested, passed)) continue;
+
+                total += this.fish[i].getWeight();
+            }
+
+            if (passed.isEmpty()) return null;
+
+            double roll = random.nextDouble() * total;
+            int last = -1;
+            for (int i = passed.nextSetBit(0); i >= 0; i = passed.nextSetBit(i + 1)) {
+                if (this.fish[i].getWeight() <= 0) continue;
+
+                last = i;
+                roll -= this.fish[i].getWeight();
+                if (roll < 0) return this.fish[i];
+            }
+
+            return last == -1 ? null : this.fish[last];
+        }
+
+        /**
+         * Check a fish against the filter, the result is remembered so the fish is only checked once for each selection
+         *
+         * @param index  The index of the fish
+         * @param filter The filter for the fish that can be caught
+         * @param tested The fish that have already been checked
+         * @param passed The fish that passed the filter
+         *
+         * @return true if the fish passed the filter
+         */
+        private boolean test(int index, Predicate<Fish> filter, BitSet tested, BitSet passed) {
+            if (tested.get(index)) return passed.get(index);
+
+            tested.set(index);
+            boolean result = filter.test(this.fish[index]);
+            if (result) passed.set(index);
+            return result;
+        }
+
+        /**
+         * All the fish in the group
+         *
+         * @return The fish
+         */
+        @NotNull
+        public Fish[] getFish() {
+            return this.fish;
+        }
+
+    }
+
+    /**
+     * The parts of an environment that static conditions depend on
+     *
+     * @param world   The name of the world
+     * @param biome   The biome key
+     * @param weather The weather in the world
+     * @param boat    Whether the player is in a boat
+     */
+    private record EnvironmentKey(String world, Key biome, Weather weather, boolean boat) {}
+
+}
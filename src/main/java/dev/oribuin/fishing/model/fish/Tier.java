@@ -38,6 +38,8 @@ public class Tier {
     @Comment("The list of fish that are available in this tier")
     private Map<String, Fish> fish;
     private transient ConfigHandler<Tier> configHandler;
+    private transient FishIndex index;
+    private transient volatile Placeholders placeholders;
 
     /**
      * Create a new tier config file from the plugin
@@ -65,7 +67,19 @@ public class Tier {
         this.configHandler = new ConfigHandler<>(Tier.class, config);
     }
 
+    /**
+     * All the placeholders for the tier, these are only built once and reused until the tier is changed
+     *
+     * @return The tier placeholders
+     */
     public Placeholders getPlaceholders() {
+        Placeholders current = this.placeholders;
+        if (current == null) this.placeholders = current = this.buildPlaceholders();
+
+        return current;
+    }
+
+    private Placeholders buildPlaceholders() {
         return Placeholders.builder()
                 .add("tier", StringUtils.capitalize(this.name))
                 .add("chance", this.chance)
@@ -105,6 +119,7 @@ public class Tier {
 
     public void setName(String name) {
         this.name = name;
+        this.placeholders = null;
     }
 
     public double getChance() {
@@ -113,6 +128,7 @@ public class Tier {
 
     public void setChance(double chance) {
         this.chance = chance;
+        this.placeholders = null;
     }
 
     public int getCatchEntropy() {
@@ -121,6 +137,7 @@ public class Tier {
 
     public void setCatchEntropy(int catchEntropy) {
         this.catchEntropy = catchEntropy;
+        this.placeholders = null;
     }
 
     public int getGutEntropy() {
@@ -129,6 +146,7 @@ public class Tier {
 
     public void setGutEntropy(int gutEntropy) {
         this.gutEntropy = gutEntropy;
+        this.placeholders = null;
     }
 
     public double getCatchMoney() {
@@ -137,6 +155,7 @@ public class Tier {
 
     public void setCatchMoney(double catchMoney) {
         this.catchMoney = catchMoney;
+        this.placeholders = null;
     }
 
     public double getSellMoney() {
@@ -145,6 +164,7 @@ public class Tier {
 
     public void setSellMoney(double sellMoney) {
         this.sellMoney = sellMoney;
+        this.placeholders = null;
     }
 
     public int getCatchExperience() {
@@ -153,6 +173,7 @@ public class Tier {
 
     public void setCatchExperience(int catchExperience) {
         this.catchExperience = catchExperience;
+        this.placeholders = null;
     }
 
     public float getNaturalExperience() {
@@ -161,6 +182,7 @@ public class Tier {
 
     public void setNaturalExperience(float naturalExperience) {
         this.naturalExperience = naturalExperience;
+        this.placeholders = null;
     }
 
     public ItemConstruct getTierDisplay() {
@@ -185,9 +207,18 @@ public class Tier {
 
     public Tier setFish(Map<String, Fish> fish) {
         this.fish = fish;
+        this.placeholders = null;
         return this;
     }
 
+    public FishIndex getIndex() {
+        return index;
+    }
+
+    public void setIndex(FishIndex index) {
+        this.index = index;
+    }
+
     public ConfigHandler<Tier> getConfigHandler() {
         return configHandler;
     }
@@ -0,0 +1,48 @@
+package dev.oribuin.fishing.model.rod;
+
+import dev.oribuin.fishing.model.augment.Augment;
+import org.bukkit.inventory.ItemStack;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+
+/**
+ * The decoded information about a fishing rod, this is cached by {@link dev.oribuin.fishing.manager.RodManager} while the player is holding the rod
+ *
+ * @param rod              A copy of the fishing rod
+ * @param augments         The augments equipped on the rod and their levels
+ * @param rarity           The rarity of the rod, null if the rod has not been upgraded
+ * @param consumedCapacity The combined level of all augments on the rod
+ * @param maximumCapacity  The maximum augment slots available on the rod
+ */
+public record RodProfile(
+        @NotNull ItemStack rod,
+        @NotNull Map<Augment, Integer> augments,
+        @Nullable RodRarity rarity,
+        int consumedCapacity,
+        int maximumCapacity
+) {
+
+    /**
+     * Get the remaining amount of augment levels that can be applied to the rod
+     *
+     * @return The remaining augment capacity
+     */
+    public int remainingCapacity() {
+        return Math.max(0, this.maximumCapacity - this.consumedCapacity);
+    }
+
+    /**
+     * Create a copy of the profile for a different copy of the same rod, such as the rod after it has been damaged
+     *
+     * @param rod The copy of the fishing rod
+     *
+     * @return The new profile
+     */
+    @NotNull
+    public RodProfile withRod(@NotNull ItemStack rod) {
+        return new RodProfile(rod, this.augments, this.rarity, this.consumedCapacity, this.maximumCapacity);
+    }
+
+}
@@ -1,6 +1,5 @@
 package dev.oribuin.fishing.model.totem;
 
-import com.destroystokyo.paper.ParticleBuilder;
 import dev.oribuin.fishing.FishingPlugin;
 import dev.oribuin.fishing.api.event.FishEventHandler;
 import dev.oribuin.fishing.api.event.impl.FishCatchEvent;
@@ -10,6 +9,7 @@ import dev.oribuin.fishing.api.event.impl.TotemDeactivateEvent;
 import dev.oribuin.fishing.api.task.AsyncTicker;
 import dev.oribuin.fishing.config.impl.PluginMessages;
 import dev.oribuin.fishing.config.impl.TotemConfig;
+import dev.oribuin.fishing.model.cosmetic.animation.AnimationEffect;
 import dev.oribuin.fishing.model.cosmetic.skin.TotemSkin;
 import dev.oribuin.fishing.model.totem.upgrade.TotemUpgrade;
 import dev.oribuin.fishing.model.totem.upgrade.TotemUpgradeRegistry;
@@ -22,7 +22,7 @@ import dev.oribuin.fishing.storage.persistent.PDCSerializable;
 import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.NMSUtil;
 import dev.oribuin.fishing.util.Placeholders;
-import dev.oribuin.fishing.util.math.MathL;
+import dev.oribuin.fishing.util.math.RingGeometry;
 import io.papermc.paper.math.Rotations;
 import org.bukkit.Bukkit;
 import org.bukkit.Color;
@@ -37,7 +37,6 @@ import org.bukkit.inventory.EquipmentSlot;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.persistence.PersistentDataAdapterContext;
 import org.bukkit.persistence.PersistentDataContainer;
-import org.bukkit.util.Vector;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
@@ -59,6 +58,18 @@ import static dev.oribuin.fishing.storage.util.KeyRegistry.*;
 
 public class Totem extends FishEventHandler implements PDCSerializable, AsyncTicker { // extends Propertied implements AsyncTicker, Animated
 
+    private static final int RING_POINTS = 120;
+    private static final long VIEWER_REFRESH = 1000;
+    private static final double VIEW_DISTANCE = 32;
+    private static final Particle.DustOptions LIME_DUST = new Particle.DustOptions(Color.LIME, 1f);
+    private static final Particle.DustOptions RED_DUST = new Particle.DustOptions(Color.RED, 1f);
+    private static final Particle.DustOptions YELLOW_DUST = new Particle.DustOptions(Color.YELLOW, 1f);
+    private static final Particle.DustTransition CATCH_TRANSITION = new Particle.DustTransition(
+            Color.fromRGB(162, 191, 254),
+            Color.fromRGB(193, 225, 193),
+            1f
+    );
+
     private Location position;
     private UUID owner;
     private boolean active;
@@ -75,6 +86,11 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
     private boolean confirmedActivate;
     private ArmorStand display;
     private ScheduledTask foliaTask;
+    private double[] ring;
+    private double ringRadius;
+    private Location ringCenter;
+    private List<Player> viewers = List.of();
+    private long viewersRefreshed;
 
     /**
      * Create a new totem from an armor stand with a container
@@ -213,23 +229,23 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
         // Spawn particles around the totem 
         // TODO: Move this to an animation API
 
-        Color color = Color.RED;
-        if (active) color = Color.LIME;
-        if (!active && this.onCooldown()) color = Color.YELLOW;
+        Particle.DustOptions color = RED_DUST;
+        if (active) color = LIME_DUST;
+        if (!active && this.onCooldown()) color = YELLOW_DUST;
 
-        new ParticleBuilder(Particle.DUST)
-                .location(this.position.clone().add(0, 1, 0))
-                .offset(0.5, 0.5, 0.5)
-                .count(10)
-                .extra(0)
-                .color(color)
-                .spawn();
+        List<Player> viewers = this.getViewers();
+        double centerY = this.position.getY();
+        this.spawnDust(viewers, color, this.position.getX(), centerY + 1, this.position.getZ(), 10, 0.5);
 
         // Spawn additional particles around the totem bounds while active
         // TODO: Active particle builder
         if (active) {
-            ParticleBuilder dust = this.getDust(Color.LIME);
-            this.getBounds().forEach(x -> dust.clone().location(x.clone().add(0, 1.5, 0)).spawn());
+            if (!viewers.isEmpty()) {
+                double[] ring = this.getRing();
+                for (int i = 0; i < ring.length; i += 2) {
+                    this.spawnDust(viewers, LIME_DUST, ring[i], centerY + 1.5, ring[i + 1], 1, 0);
+                }
+            }
 
             Rotations rotations = this.display.getHeadRotations();
             double y = rotations.y() >= 360 ? 0 : rotations.y() + 2;
@@ -251,16 +267,16 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
             return;
         }
 
-        Totem closestActive = FishingPlugin.get().getTotemManager().getClosestActive(this.position);
-        if (closestActive != null) {
-            boolean isInRadius = this.isWithinRadius(closestActive.getPosition()) || closestActive.isWithinRadius(this.position);
+        for (Totem nearby : FishingPlugin.get().getTotemManager().getActiveNearby(this.position, this.getRadius())) {
+            if (nearby == this) continue;
+
+            boolean isInRadius = this.isWithinRadius(nearby.getPosition()) || nearby.isWithinRadius(this.position);
             // Checks whether either totems are within each other's bounds
             if (isInRadius && !confirmedActivate) {
                 PluginMessages.get().getTotem().getOtherActiveNearby().send(player);
                 confirmedActivate = true;
                 return;
             }
-
         }
 
         this.confirmedActivate = false;
@@ -271,14 +287,14 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
         if (NMSUtil.isFolia()) {
             if (this.foliaTask != null) this.foliaTask = PluginScheduler.cancelNull(this.foliaTask);
 
-            this.foliaTask = PluginScheduler.get().runTaskTimerAtEntity(this.display, () -> {
+            this.foliaTask = PluginScheduler.get().runTaskTimerAtEntity(this.display, PluginScheduler.label("totem-tick", () -> {
                 if (!this.active || this.display == null) {
                     this.foliaTask = PluginScheduler.cancelNull(this.foliaTask);
                     return;
                 }
 
                 if (this.position.isChunkLoaded()) this.tickAsync();
-            }, 250, 250, TimeUnit.MILLISECONDS);
+            }), 250, 250, TimeUnit.MILLISECONDS);
         }
 
 
@@ -297,26 +313,7 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
      */
     @Override
     public void onInitialCatch(InitialFishCatchEvent event) {
-        Location hook = event.getHook().getLocation().clone().add(0, 1, 0);
-        Location position = this.position.clone().add(0, 1, 0);
-        int distance = (int) hook.distance(position);
-        Vector direction = hook.toVector().clone().subtract(position.toVector()).normalize();
-        List<Location> line = new ArrayList<>();
-        for (double i = 0; i < distance; i += 0.5) {
-            Location location = position.clone().add(direction.clone().multiply(i));
-            line.add(location);
-        }
-
-        ParticleBuilder builder = new ParticleBuilder(Particle.DUST_COLOR_TRANSITION)
-                .location(position)
-                .receivers((int) this.getRadius() + 5)
-                .colorTransition(
-                        Color.fromRGB(162, 191, 254),
-                        Color.fromRGB(193, 225, 193)
-                )
-                .extra(0);
-
-        line.forEach(location -> builder.clone().location(location).spawn());
+        FishingPlugin.get().getAnimationManager().play(this.getCatchLine(event.getHook().getLocation()));
     }
 
     /**
@@ -338,33 +335,44 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
         event.setCatchExp((int) (event.getCatchExp() + (event.getCatchExp() * multiplier)));
         
         // region Particle effects on catch
-        Location hook = event.getHook().getLocation().clone().add(0, 1, 0);
-        Location position = this.position.clone().add(0, 1, 0);
-        int distance = (int) hook.distance(position);
-        Vector direction = hook.toVector().clone().subtract(position.toVector()).normalize();
-        List<Location> line = new ArrayList<>();
-        for (double i = 0; i < distance; i += 0.5) {
-            Location location = position.clone().add(direction.clone().multiply(i));
-            line.add(location);
+        FishingPlugin.get().getAnimationManager().play(this.getCatchLine(event.getHook().getLocation())
+                .delay(Duration.ofMillis(500))
+                .interval(Duration.ofMillis(500))
+                .duration(Duration.ofSeconds(2)));
+        // endregion
+    }
+
+    /**
+     * Create a line of particles going from the totem to the fish hook, the effect is only displayed once unless changed
+     *
+     * @param hook The location of the fish hook
+     *
+     * @return The particle effect
+     */
+    private AnimationEffect getCatchLine(Location hook) {
+        double startX = this.position.getX();
+        double startY = this.position.getY() + 1;
+        double startZ = this.position.getZ();
+        double dx = hook.getX() - startX;
+        double dy = hook.getY() + 1 - startY;
+        double dz = hook.getZ() - startZ;
+        double length = Math.sqrt(dx * dx + dy * dy + dz * dz);
+
+        // Place a point every half block between the totem and the hook
+        int steps = hook.getWorld() == this.position.getWorld() && length >= 1 ? (int) length * 2 : 0;
+        double[] points = new double[steps * 3];
+        for (int i = 0; i < steps; i++) {
+            double progress = (i * 0.5) / length;
+            points[i * 3] = startX + dx * progress;
+            points[i * 3 + 1] = startY + dy * progress;
+            points[i * 3 + 2] = startZ + dz * progress;
         }
 
-        ParticleBuilder builder = new ParticleBuilder(Particle.DUST_COLOR_TRANSITION)
-                .location(position)
-                .receivers((int) this.getRadius() + 5)
-                .colorTransition(
-                        Color.fromRGB(162, 191, 254),
-                        Color.fromRGB(193, 225, 193)
-                )
-                .extra(0);
-
-        ScheduledTask task = PluginScheduler.get().runTaskTimerAsync(() -> line.forEach(location -> builder
-                .clone()
-                .location(location)
-                .spawn()
-        ), 500, 500, TimeUnit.MILLISECONDS);
-
-        PluginScheduler.get().runTaskLater(task::cancel, 3, TimeUnit.SECONDS);
-        // endregion
+        return AnimationEffect.of(this.position, Particle.DUST_COLOR_TRANSITION)
+                .data(CATCH_TRANSITION)
+                .extra(0)
+                .points(points)
+                .viewDistance(this.getRadius() + 5);
     }
 
     /**
@@ -402,19 +410,22 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
         });
 
         // Create spawning particles around the totem
-        List<Location> bounds = this.getBounds();
-        ScheduledTask repeating = PluginScheduler.get().runTaskTimerAsync(() -> {
-            // dont display particles if running
-            if (stand.isDead() || this.position == null || !this.position.isChunkLoaded()) return;
-
-            bounds.forEach(x ->
-                    this.getDust(Color.LIME)
-                            .location(x.clone().add(0, 0.5, 0))
-                            .spawn()
-            );
-        }, 0, 250, TimeUnit.MILLISECONDS);
-
-        PluginScheduler.get().runTaskLaterAsync(repeating::cancel, 3, TimeUnit.SECONDS);
+        double[] ring = this.getRing();
+        double[] points = new double[ring.length / 2 * 3];
+        for (int i = 0, j = 0; i < ring.length; i += 2, j += 3) {
+            points[j] = ring[i];
+            points[j + 1] = this.position.getY() + 0.5;
+            points[j + 2] = ring[i + 1];
+        }
+
+        // Don't display the particles once the totem is gone or its chunk is unloaded
+        FishingPlugin.get().getAnimationManager().play(AnimationEffect.of(this.position, Particle.DUST)
+                .data(LIME_DUST)
+                .extra(0)
+                .points(points)
+                .condition(() -> !stand.isDead() && this.position != null && this.position.isChunkLoaded())
+                .interval(Duration.ofMillis(250))
+                .duration(Duration.ofMillis(2750)));
     }
 
     /**
@@ -438,13 +449,63 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
      *
      * @return The particle builder
      */
-    private ParticleBuilder getDust(Color color) {
-        return new ParticleBuilder(Particle.DUST)
-                .count(1)
-                .extra(0)
-                .offset(0, 0, 0.)
-                .color(color)
-                .clone();
+    /**
+     * Get the position of every point around the totem bounds, this is only recalculated when the radius or position changes
+     *
+     * @return The x and z coordinates of each point around the bounds
+     */
+    private double[] getRing() {
+        double radius = this.getRadius();
+        Location center = this.position;
+        double[] current = this.ring;
+        if (current != null && radius == this.ringRadius && center == this.ringCenter) return current;
+
+        double[] offsets = RingGeometry.offsets(radius, RING_POINTS);
+        double[] result = new double[offsets.length];
+        for (int i = 0; i < offsets.length; i += 2) {
+            result[i] = center.getX() + offsets[i];
+            result[i + 1] = center.getZ() + offsets[i + 1];
+        }
+
+        this.ringRadius = radius;
+        this.ringCenter = center;
+        return this.ring = result;
+    }
+
+    /**
+     * Get all the players close enough to see the totem particles, this is only refreshed about once a second
+     *
+     * @return The players who can see the totem
+     */
+    private List<Player> getViewers() {
+        long now = System.currentTimeMillis();
+        if (now - this.viewersRefreshed < VIEWER_REFRESH) return this.viewers;
+
+        double range = VIEW_DISTANCE + this.getRadius();
+        List<Player> result = new ArrayList<>();
+        for (Player player : this.position.getWorld().getPlayers()) {
+            if (player.getLocation().distanceSquared(this.position) <= range * range) result.add(player);
+        }
+
+        this.viewersRefreshed = now;
+        return this.viewers = result;
+    }
+
+    /**
+     * Send a dust particle to all the viewers of the totem without creating any locations
+     *
+     * @param viewers The players to send the particle to
+     * @param dust    The dust colour and size
+     * @param x       The x coordinate
+     * @param y       The y coordinate
+     * @param z       The z coordinate
+     * @param count   The amount of particles
+     * @param offset  The random offset in each direction
+     */
+    private void spawnDust(List<Player> viewers, Particle.DustOptions dust, double x, double y, double z, int count, double offset) {
+        for (Player viewer : viewers) {
+            viewer.spawnParticle(Particle.DUST, x, y, z, count, offset, offset, offset, 0, dust);
+        }
     }
 
     /**
@@ -520,14 +581,10 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
     public List<Location> getBounds() {
         if (this.position == null) return new ArrayList<>();
 
-        List<Location> results = new ArrayList<>();
-        double radius = this.getRadius();
-        int numSteps = 120;
-        for (int i = 0; i < numSteps; i++) {
-            double dx = MathL.cos(Math.PI * 2 * ((double) i / numSteps)) * radius;
-            double dz = MathL.sin(Math.PI * 2 * ((double) i / numSteps)) * radius;
-
-            results.add(this.position.clone().add(dx, 0, dz));
+        double[] ring = this.getRing();
+        List<Location> results = new ArrayList<>(ring.length / 2);
+        for (int i = 0; i < ring.length; i += 2) {
+            results.add(new Location(this.position.getWorld(), ring[i], this.position.getY(), ring[i + 1]));
         }
 
         return results;
@@ -544,6 +601,25 @@ public class Totem extends FishEventHandler implements PDCSerializable, AsyncTic
         this.upgrades.values().forEach(x -> x.handleEvent(event));
     }
 
+    /**
+     * Check if an event class is registered into the totem or any of its upgrades
+     *
+     * @param eventClass The event class to register
+     * @param <T>        The event type
+     *
+     * @return Whether the event is registered
+     */
+    @Override
+    public <T extends Event> boolean isRegistered(Class<T> eventClass) {
+        if (super.isRegistered(eventClass)) return true;
+
+        for (TotemUpgrade upgrade : this.upgrades.values()) {
+            if (upgrade.isRegistered(eventClass)) return true;
+        }
+
+        return false;
+    }
+
     public Map<TotemUpgrade, Integer> getUpgradeLevelMapping() {
         return this.upgrades.values().stream().collect(
                 Collectors.toMap(x -> x, TotemUpgrade::getLevel)
@@ -0,0 +1,209 @@
+package dev.oribuin.fishing.model.totem;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A spatial index of all the active totems, grouped by world and by the chunk they are placed in.
+ * <p>
+ * Looking up the totems around a location only checks the chunks that could be inside the range of the largest active totem
+ * in that world, instead of every totem on the server. Updates are synchronized, lookups can happen from any thread.
+ */
+public final class TotemIndex {
+
+    private final Map<UUID, WorldIndex> worlds = new ConcurrentHashMap<>();
+    private final Map<Totem, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Add, move or remove a totem in the index depending on whether it's active and where it is placed.
+     * This should be called whenever the totem is activated, deactivated, upgraded or moved.
+     *
+     * @param totem The totem to update
+     */
+    public synchronized void update(@NotNull Totem totem) {
+        this.remove(totem);
+
+        Location position = totem.getPosition();
+        if (!totem.isActive() || position == null) return;
+
+        World world = position.getWorld();
+        if (world == null) return;
+
+        Entry entry = new Entry(world.getUID(), chunkKey(position.getBlockX() >> 4, position.getBlockZ() >> 4), totem.getRadius());
+        this.entries.put(totem, entry);
+        this.worlds.computeIfAbsent(entry.world(), x -> new WorldIndex()).add(totem, entry);
+    }
+
+    /**
+     * Remove a totem from the index
+     *
+     * @param totem The totem to remove
+     */
+    public synchronized void remove(@NotNull Totem totem) {
+        Entry entry = this.entries.remove(totem);
+        if (entry == null) return;
+
+        WorldIndex index = this.worlds.get(entry.world());
+        if (index == null) return;
+
+        index.remove(totem, entry);
+        if (index.isEmpty()) this.worlds.remove(entry.world());
+    }
+
+    /**
+     * Remove all the totems from the index
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.worlds.clear();
+    }
+
+    /**
+     * Get the closest active totem that has the location inside its radius
+     *
+     * @param location The location to check
+     *
+     * @return The closest totem, null if no active totem covers the location
+     */
+    @Nullable
+    public Totem getClosest(@NotNull Location location) {
+        Totem closest = null;
+        double closestDistance = Double.MAX_VALUE;
+
+        for (Totem totem : this.getNearby(location, 0)) {
+            if (!totem.isWithinRadius(location)) continue;
+
+            double distance = totem.getPosition().distanceSquared(location);
+            if (distance < closestDistance) {
+                closest = totem;
+                closestDistance = distance;
+            }
+        }
+
+        return closest;
+    }
+
+    /**
+     * Get all the active totems that could be within a range of a location, or that could have the location inside their radius.
+     * The totems returned still need their distance checked.
+     *
+     * @param location The location to check
+     * @param range    The extra range to search around the location
+     *
+     * @return The totems nearby
+     */
+    @NotNull
+    public List<Totem> getNearby(@NotNull Location location, double range) {
+        World world = location.getWorld();
+        if (world == null) return List.of();
+
+        WorldIndex index = this.worlds.get(world.getUID());
+        if (index == null) return List.of();
+
+        double distance = Math.max(range, index.maxRadius);
+        int minX = (int) Math.floor(location.getX() - distance) >> 4;
+        int maxX = (int) Math.floor(location.getX() + distance) >> 4;
+        int minZ = (int) Math.floor(location.getZ() - distance) >> 4;
+        int maxZ = (int) Math.floor(location.getZ() + distance) >> 4;
+
+        List<Totem> result = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                Set<Totem> cell = index.cells.get(chunkKey(x, z));
+                if (cell == null) continue;
+
+                for (Totem totem : cell) {
+                    if (totem.isActive()) result.add(totem);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the amount of totems in the index
+     *
+     * @return The amount of active totems
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Pack the chunk coordinates into a single key
+     *
+     * @param x The chunk x
+     * @param z The chunk z
+     *
+     * @return The chunk key
+     */
+    private static long chunkKey(int x, int z) {
+        return ((long) x & 0xFFFFFFFFL) | (((long) z & 0xFFFFFFFFL) << 32);
+    }
+
+    /**
+     * Where a totem has been placed in the index
+     *
+     * @param world  The id of the world
+     * @param chunk  The key of the chunk
+     * @param radius The radius of the totem when it was indexed
+     */
+    private record Entry(UUID world, long chunk, double radius) {}
+
+    /**
+     * All the active totems inside a single world
+     */
+    private static final class WorldIndex {
+
+        private final Map<Long, Set<Totem>> cells = new ConcurrentHashMap<>();
+        private final Map<Totem, Double> radii = new ConcurrentHashMap<>();
+        private volatile double maxRadius;
+
+        /**
+         * Add a totem to the world
+         *
+         * @param totem The totem to add
+         * @param entry Where the totem is placed
+         */
+        private void add(Totem totem, Entry entry) {
+            this.cells.computeIfAbsent(entry.chunk(), x -> ConcurrentHashMap.newKeySet()).add(totem);
+            this.radii.put(totem, entry.radius());
+            this.maxRadius = Math.max(this.maxRadius, entry.radius());
+        }
+
+        /**
+         * Remove a totem from the world
+         *
+         * @param totem The totem to remove
+         * @param entry Where the totem was placed
+         */
+        private void remove(Totem totem, Entry entry) {
+            Set<Totem> cell = this.cells.get(entry.chunk());
+            if (cell != null) {
+                cell.remove(totem);
+                if (cell.isEmpty()) this.cells.remove(entry.chunk());
+            }
+
+            this.radii.remove(totem);
+            if (entry.radius() >= this.maxRadius) {
+                this.maxRadius = this.radii.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+            }
+        }
+
+        private boolean isEmpty() {
+            return this.radii.isEmpty();
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@ import dev.oribuin.fishing.model.totem.Totem;
 import dev.oribuin.fishing.model.totem.upgrade.TotemUpgrade;
 import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -17,7 +18,7 @@ import java.util.function.Supplier;
 @SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
 public class TotemUpgradeCooldown extends TotemUpgrade {
 
-    private String cooldownFormula = "(3600+120) - (<level> * 120)"; // The formula to calculate the cooldown of the totem (1 hour - 2 minute per level)
+    private Formula cooldownFormula = Formula.of("(3600+120) - (<level> * 120)"); // The formula to calculate the cooldown of the totem (1 hour - 2 minute per level)
 
     /**
      * Create a new totem upgrade with the name "radius"
@@ -34,8 +35,7 @@ public class TotemUpgradeCooldown extends TotemUpgrade {
      * @return The radius of the totem
      */
     public Duration getCooldown() {
-        Placeholders plc = Placeholders.of("level", this.level);
-        return Duration.ofMillis((long) FishUtils.evaluate(plc.applyString(this.cooldownFormula)) * 1000);
+        return Duration.ofMillis((long) this.cooldownFormula.evaluate("level", this.level) * 1000);
     }
 
     /**
@@ -4,6 +4,7 @@ import dev.oribuin.fishing.model.totem.Totem;
 import dev.oribuin.fishing.model.totem.upgrade.TotemUpgrade;
 import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -17,7 +18,7 @@ import java.util.function.Supplier;
 @SuppressWarnings({ "FieldMayBeFinal", "FieldCanBeLocal" })
 public class TotemUpgradeDuration extends TotemUpgrade {
 
-    private String durationFormula = "150 + (<level> * 30)"; // The formula to calculate the duration of the totem (60 seconds + 30 seconds per level)
+    private Formula durationFormula = Formula.of("150 + (<level> * 30)"); // The formula to calculate the duration of the totem (60 seconds + 30 seconds per level)
 
     /**
      * Create a new totem upgrade with the name "radius"
@@ -34,8 +35,7 @@ public class TotemUpgradeDuration extends TotemUpgrade {
      * @return The radius of the totem
      */
     public Duration getDuration() {
-        Placeholders plc = Placeholders.of("level", this.level);
-        return Duration.ofMillis((long) FishUtils.evaluate(plc.applyString(this.durationFormula)) * 1000);
+        return Duration.ofMillis((long) this.durationFormula.evaluate("level", this.level) * 1000);
     }
 
     /**
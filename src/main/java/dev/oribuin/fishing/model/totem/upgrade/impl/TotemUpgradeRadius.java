@@ -2,8 +2,8 @@ package dev.oribuin.fishing.model.totem.upgrade.impl;
 
 import dev.oribuin.fishing.model.totem.Totem;
 import dev.oribuin.fishing.model.totem.upgrade.TotemUpgrade;
-import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.Placeholders;
+import dev.oribuin.fishing.util.math.Formula;
 import org.jetbrains.annotations.NotNull;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -17,7 +17,7 @@ import java.util.function.Supplier;
 public class TotemUpgradeRadius extends TotemUpgrade {
 
     private int baseRadius = 5;
-    private String radiusFormula = "<base_radius> + (<level> * 5)"; // The formula to calculate the radius of the totem (5 blocks per level)
+    private Formula radiusFormula = Formula.of("<base_radius> + (<level> * 5)"); // The formula to calculate the radius of the totem (5 blocks per level)
 
     /**
      * Create a new totem upgrade with the name "radius"
@@ -36,8 +36,7 @@ public class TotemUpgradeRadius extends TotemUpgrade {
      * @return The radius of the totem
      */
     public double getRadius() {
-        Placeholders plc = Placeholders.of("level", this.level, "base_radius", this.baseRadius);
-        return FishUtils.evaluate(plc.applyString(this.radiusFormula)) / 2;
+        return this.radiusFormula.evaluate("level", this.level, "base_radius", this.baseRadius) / 2;
     }
 
     /**
@@ -48,8 +47,7 @@ public class TotemUpgradeRadius extends TotemUpgrade {
      * @return The radius of the totem
      */
     public double getTotalRadius() {
-        Placeholders plc = Placeholders.of("level", this.level, "base_radius", this.baseRadius);
-        return FishUtils.evaluate(plc.applyString(this.radiusFormula));
+        return this.radiusFormula.evaluate("level", this.level, "base_radius", this.baseRadius);
     }
 
     /**
@@ -0,0 +1,140 @@
+package dev.oribuin.fishing.scheduler;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * A lane for blocking I/O that runs every task on its own virtual thread, so slow files or databases never hold up
+ * the server's shared worker threads.
+ * <p>
+ * The amount of tasks running at once is limited so a lane can't open more work than the resource behind it can handle,
+ * tasks over the limit wait for a turn without blocking a platform thread.
+ */
+public final class IOLane {
+
+    private final String name;
+    private final ExecutorService executor;
+    private final LanePermits permits;
+    private int limit;
+
+    /**
+     * Create a new I/O lane
+     *
+     * @param name  The name of the lane, used to name its threads
+     * @param limit The maximum amount of tasks that can run at once
+     */
+    public IOLane(@NotNull String name, int limit) {
+        this.name = name;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("fishing-" + name + "-", 0).factory());
+        this.limit = Math.max(1, limit);
+        this.permits = new LanePermits(this.limit);
+    }
+
+    /**
+     * Run a task on the lane
+     *
+     * @param runnable The task to run
+     *
+     * @return The future that completes once the task has finished
+     */
+    @NotNull
+    public CompletableFuture<Void> run(@NotNull Runnable runnable) {
+        return this.supply(() -> {
+            runnable.run();
+            return null;
+        });
+    }
+
+    /**
+     * Run a task on the lane that returns a result
+     *
+     * @param supplier The task to run
+     * @param <T>      The type of result
+     *
+     * @return The future that completes with the result of the task
+     */
+    @NotNull
+    public <T> CompletableFuture<T> supply(@NotNull Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                this.permits.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(ex);
+            }
+
+            try {
+                return supplier.get();
+            } finally {
+                this.permits.release();
+            }
+        }, this.executor);
+    }
+
+    /**
+     * Change the maximum amount of tasks that can run at once. Tasks that are already running keep their place,
+     * when the limit is lowered no new tasks start until enough of them have finished
+     *
+     * @param limit The new limit
+     */
+    public synchronized void resize(int limit) {
+        limit = Math.max(1, limit);
+        int difference = limit - this.limit;
+        if (difference == 0) return;
+
+        this.limit = limit;
+        if (difference > 0) this.permits.release(difference);
+        else this.permits.reducePermits(-difference);
+    }
+
+    /**
+     * Stop accepting new tasks and wait for the running tasks to finish
+     *
+     * @param timeout  The maximum time to wait
+     * @param timeUnit The unit of the timeout
+     *
+     * @return true if every task finished before the timeout
+     */
+    public boolean shutdown(long timeout, @NotNull TimeUnit timeUnit) {
+        this.executor.shutdown();
+
+        try {
+            return this.executor.awaitTermination(timeout, timeUnit);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public synchronized int getLimit() {
+        return this.limit;
+    }
+
+    /**
+     * The permits of the lane, the amount of permits can be lowered while tasks are holding them
+     */
+    private static final class LanePermits extends Semaphore {
+
+        private LanePermits(int permits) {
+            super(permits, true);
+        }
+
+        @Override
+        protected void reducePermits(int reduction) {
+            super.reducePermits(reduction);
+        }
+
+    }
+
+}
@@ -9,15 +9,21 @@ import dev.oribuin.fishing.util.NMSUtil;
 import org.bukkit.Location;
 import org.bukkit.entity.Entity;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 public class PluginScheduler implements SchedulerWrapper {
 
+    private static final String DEFAULT_LABEL = "other";
     private static PluginScheduler instance;
 
     private final AtomicInteger runningTasks;
     private final SchedulerWrapper scheduler;
+    private final IOLane databaseLane;
+    private final IOLane fileLane;
+    private final TaskMetrics metrics;
 
     private PluginScheduler(FishingPlugin javaPlugin) {
         if (instance != null)
@@ -25,6 +31,9 @@ public class PluginScheduler implements SchedulerWrapper {
 
         instance = this;
         this.runningTasks = new AtomicInteger();
+        this.databaseLane = new IOLane("database", 10);
+        this.fileLane = new IOLane("file", 4);
+        this.metrics = new TaskMetrics();
 
         if (NMSUtil.isFolia()) {
             this.scheduler = new FoliaSchedulerWrapper(javaPlugin);
@@ -45,102 +54,102 @@ public class PluginScheduler implements SchedulerWrapper {
 
     @Override
     public ScheduledTask runTask(Runnable runnable) {
-        return this.scheduler.runTask(this.wrap(runnable));
+        return this.scheduler.runTask(this.wrap(runnable, 0, 0));
     }
 
     @Override
     public ScheduledTask runTaskAsync(Runnable runnable) {
-        return this.scheduler.runTaskAsync(this.wrap(runnable));
+        return this.scheduler.runTaskAsync(this.wrap(runnable, 0, 0));
     }
 
     @Override
     public ScheduledTask runTaskLater(Runnable runnable, long delay) {
-        return this.scheduler.runTaskLater(this.wrap(runnable), delay);
+        return this.scheduler.runTaskLater(this.wrap(runnable, ticks(delay), 0), delay);
     }
 
     @Override
     public ScheduledTask runTaskLater(Runnable runnable, long delay, TimeUnit timeUnit) {
-        return this.scheduler.runTaskLater(this.wrap(runnable), delay, timeUnit);
+        return this.scheduler.runTaskLater(this.wrap(runnable, timeUnit.toNanos(delay), 0), delay, timeUnit);
     }
 
     @Override
     public ScheduledTask runTaskLaterAsync(Runnable runnable, long delay) {
-        return this.scheduler.runTaskLaterAsync(this.wrap(runnable), delay);
+        return this.scheduler.runTaskLaterAsync(this.wrap(runnable, ticks(delay), 0), delay);
     }
 
     @Override
     public ScheduledTask runTaskLaterAsync(Runnable runnable, long delay, TimeUnit timeUnit) {
-        return this.scheduler.runTaskLaterAsync(this.wrap(runnable), delay, timeUnit);
+        return this.scheduler.runTaskLaterAsync(this.wrap(runnable, timeUnit.toNanos(delay), 0), delay, timeUnit);
     }
 
     @Override
     public ScheduledTask runTaskTimer(Runnable runnable, long delay, long period) {
-        return this.scheduler.runTaskTimer(this.wrap(runnable), delay, period);
+        return this.scheduler.runTaskTimer(this.wrap(runnable, ticks(delay), ticks(period)), delay, period);
     }
 
     @Override
     public ScheduledTask runTaskTimer(Runnable runnable, long delay, long period, TimeUnit timeUnit) {
-        return this.scheduler.runTaskTimer(this.wrap(runnable), delay, period, timeUnit);
+        return this.scheduler.runTaskTimer(this.wrap(runnable, timeUnit.toNanos(delay), timeUnit.toNanos(period)), delay, period, timeUnit);
     }
 
     @Override
     public ScheduledTask runTaskTimerAsync(Runnable runnable, long delay, long period) {
-        return this.scheduler.runTaskTimerAsync(this.wrap(runnable), delay, period);
+        return this.scheduler.runTaskTimerAsync(this.wrap(runnable, ticks(delay), ticks(period)), delay, period);
     }
 
     @Override
     public ScheduledTask runTaskTimerAsync(Runnable runnable, long delay, long period, TimeUnit timeUnit) {
-        return this.scheduler.runTaskTimerAsync(this.wrap(runnable), delay, period, timeUnit);
+        return this.scheduler.runTaskTimerAsync(this.wrap(runnable, timeUnit.toNanos(delay), timeUnit.toNanos(period)), delay, period, timeUnit);
     }
 
     @Override
     public ScheduledTask runTaskAtLocation(Location location, Runnable runnable) {
-        return this.scheduler.runTaskAtLocation(location, this.wrap(runnable));
+        return this.scheduler.runTaskAtLocation(location, this.wrap(runnable, 0, 0));
     }
 
     @Override
     public ScheduledTask runTaskAtLocationLater(Location location, Runnable runnable, long delay) {
-        return this.scheduler.runTaskAtLocationLater(location, this.wrap(runnable), delay);
+        return this.scheduler.runTaskAtLocationLater(location, this.wrap(runnable, ticks(delay), 0), delay);
     }
 
     @Override
     public ScheduledTask runTaskAtLocationLater(Location location, Runnable runnable, long delay, TimeUnit timeUnit) {
-        return this.scheduler.runTaskAtLocationLater(location, this.wrap(runnable), delay, timeUnit);
+        return this.scheduler.runTaskAtLocationLater(location, this.wrap(runnable, timeUnit.toNanos(delay), 0), delay, timeUnit);
     }
 
     @Override
     public ScheduledTask runTaskTimerAtLocation(Location location, Runnable runnable, long delay, long period) {
-        return this.scheduler.runTaskTimerAtLocation(location, this.wrap(runnable), delay, period);
+        return this.scheduler.runTaskTimerAtLocation(location, this.wrap(runnable, ticks(delay), ticks(period)), delay, period);
     }
 
     @Override
     public ScheduledTask runTaskTimerAtLocation(Location location, Runnable runnable, long delay, long period, TimeUnit timeUnit) {
-        return this.scheduler.runTaskTimerAtLocation(location, this.wrap(runnable), delay, period, timeUnit);
+        return this.scheduler.runTaskTimerAtLocation(location, this.wrap(runnable, timeUnit.toNanos(delay), timeUnit.toNanos(period)), delay, period, timeUnit);
     }
 
     @Override
     public ScheduledTask runTaskAtEntity(Entity entity, Runnable runnable) {
-        return this.scheduler.runTaskAtEntity(entity, this.wrap(runnable));
+        return this.scheduler.runTaskAtEntity(entity, this.wrap(runnable, 0, 0));
     }
 
     @Override
     public ScheduledTask runTaskAtEntityLater(Entity entity, Runnable runnable, long delay) {
-        return this.scheduler.runTaskAtEntityLater(entity, this.wrap(runnable), delay);
+        return this.scheduler.runTaskAtEntityLater(entity, this.wrap(runnable, ticks(delay), 0), delay);
     }
 
     @Override
     public ScheduledTask runTaskAtEntityLater(Entity entity, Runnable runnable, long delay, TimeUnit timeUnit) {
-        return this.scheduler.runTaskAtEntityLater(entity, this.wrap(runnable), delay, timeUnit);
+        return this.scheduler.runTaskAtEntityLater(entity, this.wrap(runnable, timeUnit.toNanos(delay), 0), delay, timeUnit);
     }
 
     @Override
     public ScheduledTask runTaskTimerAtEntity(Entity entity, Runnable runnable, long delay, long period) {
-        return this.scheduler.runTaskTimerAtEntity(entity, this.wrap(runnable), delay, period);
+        return this.scheduler.runTaskTimerAtEntity(entity, this.wrap(runnable, ticks(delay), ticks(period)), delay, period);
     }
 
     @Override
     public ScheduledTask runTaskTimerAtEntity(Entity entity, Runnable runnable, long delay, long period, TimeUnit timeUnit) {
-        return this.scheduler.runTaskTimerAtEntity(entity, this.wrap(runnable), delay, period, timeUnit);
+        return this.scheduler.runTaskTimerAtEntity(entity, this.wrap(runnable, timeUnit.toNanos(delay), timeUnit.toNanos(period)), delay, period, timeUnit);
     }
 
     @Override
@@ -148,6 +157,84 @@ public class PluginScheduler implements SchedulerWrapper {
         this.scheduler.cancelAllTasks();
     }
 
+    /**
+     * Run a task that talks to the database on a virtual thread, outside the server's shared async pool
+     *
+     * @param runnable The task to run
+     *
+     * @return The future that completes once the task has finished
+     */
+    public CompletableFuture<Void> runDatabase(Runnable runnable) {
+        return this.databaseLane.run(this.wrap(runnable, this.databaseLane.getName(), 0, 0));
+    }
+
+    /**
+     * Run a task that talks to the database on a virtual thread, outside the server's shared async pool
+     *
+     * @param supplier The task to run
+     * @param <T>      The type of result
+     *
+     * @return The future that completes with the result of the task
+     */
+    public <T> CompletableFuture<T> supplyDatabase(Supplier<T> supplier) {
+        return this.supplyDatabase(this.databaseLane.getName(), supplier);
+    }
+
+    /**
+     * Run a task that talks to the database on a virtual thread, outside the server's shared async pool
+     *
+     * @param label    The label of the task for its timings
+     * @param supplier The task to run
+     * @param <T>      The type of result
+     *
+     * @return The future that completes with the result of the task
+     */
+    public <T> CompletableFuture<T> supplyDatabase(String label, Supplier<T> supplier) {
+        return this.databaseLane.supply(this.wrap(supplier, label));
+    }
+
+    /**
+     * Run a task that reads or writes files on a virtual thread, outside the server's shared async pool
+     *
+     * @param runnable The task to run
+     *
+     * @return The future that completes once the task has finished
+     */
+    public CompletableFuture<Void> runFile(Runnable runnable) {
+        return this.fileLane.run(this.wrap(runnable, this.fileLane.getName(), 0, 0));
+    }
+
+    /**
+     * Run a task that reads or writes files on a virtual thread, outside the server's shared async pool
+     *
+     * @param supplier The task to run
+     * @param <T>      The type of result
+     *
+     * @return The future that completes with the result of the task
+     */
+    public <T> CompletableFuture<T> supplyFile(Supplier<T> supplier) {
+        return this.fileLane.supply(this.wrap(supplier, this.fileLane.getName()));
+    }
+
+    /**
+     * Stop the I/O lanes and wait for any running tasks to finish
+     *
+     * @param timeout  The maximum time to wait for each lane
+     * @param timeUnit The unit of the timeout
+     */
+    public void shutdownLanes(long timeout, TimeUnit timeUnit) {
+        this.databaseLane.shutdown(timeout, timeUnit);
+        this.fileLane.shutdown(timeout, timeUnit);
+    }
+
+    public IOLane getDatabaseLane() {
+        return this.databaseLane;
+    }
+
+    public IOLane getFileLane() {
+        return this.fileLane;
+    }
+
     public int getRunningTaskCount() {
         return this.runningTasks.get();
     }
@@ -158,17 +245,105 @@ public class PluginScheduler implements SchedulerWrapper {
         return task;
     }
 
-    private Runnable wrap(Runnable runnable) {
+    /**
+     * Give a task a label, the label is used to group the timings of the task in the {@link TaskMetrics}
+     *
+     * @param label    The label of the task, e.g. "totem-tick"
+     * @param runnable The task to label
+     *
+     * @return The labelled task
+     */
+    public static Runnable label(String label, Runnable runnable) {
+        return new LabelledTask(label, runnable);
+    }
+
+    public TaskMetrics getMetrics() {
+        return this.metrics;
+    }
+
+    private Runnable wrap(Runnable runnable, long delay, long period) {
+        return this.wrap(runnable, DEFAULT_LABEL, delay, period);
+    }
+
+    /**
+     * Wrap a task so it is counted and timed when it runs
+     *
+     * @param runnable The task to wrap
+     * @param label    The label to use if the task doesn't have one
+     * @param delay    How long the task should wait before it first runs in nanoseconds
+     * @param period   How long the task should wait between runs in nanoseconds, 0 if it only runs once
+     *
+     * @return The wrapped task
+     */
+    private Runnable wrap(Runnable runnable, String label, long delay, long period) {
+        String name = runnable instanceof LabelledTask task ? task.label() : label;
+        long[] expected = { System.nanoTime() + delay };
+
         return () -> {
+            long start = System.nanoTime();
+            long queue = Math.max(0, start - expected[0]);
+            expected[0] = period > 0 ? Math.max(expected[0] + period, start) : start;
+
             this.runningTasks.incrementAndGet();
             try {
                 runnable.run();
             } finally {
                 this.runningTasks.decrementAndGet();
+                this.metrics.record(name, queue, System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Wrap a task so it is counted and timed when it runs
+     *
+     * @param supplier The task to wrap
+     * @param label    The label of the task
+     * @param <T>      The type of result
+     *
+     * @return The wrapped task
+     */
+    private <T> Supplier<T> wrap(Supplier<T> supplier, String label) {
+        long submitted = System.nanoTime();
+
+        return () -> {
+            long start = System.nanoTime();
+            this.runningTasks.incrementAndGet();
+            try {
+                return supplier.get();
+            } finally {
+                this.runningTasks.decrementAndGet();
+                this.metrics.record(label, start - submitted, System.nanoTime() - start);
             }
         };
     }
 
+    /**
+     * Convert server ticks into nanoseconds
+     *
+     * @param ticks The amount of ticks
+     *
+     * @return The amount of nanoseconds
+     */
+    private static long ticks(long ticks) {
+        return TimeUnit.MILLISECONDS.toNanos(ticks * 50);
+    }
+
+    /**
+     * A task with a label for its timings
+     *
+     * @param label    The label of the task
+     * @param runnable The task to run
+     */
+    private record LabelledTask(String label, Runnable runnable) implements Runnable {
+
+        @Override
+        public void run() {
+            this.runnable.run();
+        }
+
+    }
+
     public static PluginScheduler get() {
         if (instance == null) {
             instance = new PluginScheduler(FishingPlugin.get());
@@ -0,0 +1,181 @@
+package dev.oribuin.fishing.scheduler;
+
+import dev.oribuin.fishing.FishingPlugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timing for every task run through the {@link PluginScheduler}, grouped by the label of the task.
+ * <p>
+ * Each label keeps a histogram of how long its tasks waited to start and how long they took to run. The histograms use
+ * fixed buckets that double in size, so recording a task is only a few uncontended additions. Tasks that take longer than
+ * the slow task threshold are logged with their label.
+ */
+public final class TaskMetrics {
+
+    private static final long WARN_COOLDOWN = TimeUnit.SECONDS.toNanos(10);
+
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastWarned = new ConcurrentHashMap<>();
+    private volatile long slowThreshold = TimeUnit.MILLISECONDS.toNanos(50);
+
+    /**
+     * Record a task that has finished running
+     *
+     * @param label The label of the task
+     * @param queue How long the task waited to start in nanoseconds
+     * @param run   How long the task took to run in nanoseconds
+     */
+    public void record(@NotNull String label, long queue, long run) {
+        Stats result = this.stats.computeIfAbsent(label, x -> new Stats());
+        result.queue.record(queue);
+        result.run.record(run);
+
+        if (run < this.slowThreshold) return;
+
+        result.slow.increment();
+        this.warn(label, run);
+    }
+
+    /**
+     * Log a slow task, each label is only logged once every few seconds so a struggling task doesn't flood the console
+     *
+     * @param label The label of the task
+     * @param run   How long the task took to run in nanoseconds
+     */
+    private void warn(String label, long run) {
+        long now = System.nanoTime();
+        Long last = this.lastWarned.get(label);
+        if (last != null && now - last < WARN_COOLDOWN) return;
+
+        this.lastWarned.put(label, now);
+        FishingPlugin.get().getLogger().warning(String.format("Task [%s] took %.2fms to run, the threshold is %.2fms.",
+                label, run / 1_000_000.0, this.slowThreshold / 1_000_000.0
+        ));
+    }
+
+    /**
+     * Get the timings of every label that has been recorded, sorted by label
+     *
+     * @return The timings of each label
+     */
+    @NotNull
+    public Map<String, Stats> getStats() {
+        return new TreeMap<>(this.stats);
+    }
+
+    /**
+     * Remove all the recorded timings
+     */
+    public void reset() {
+        this.stats.clear();
+        this.lastWarned.clear();
+    }
+
+    /**
+     * Set how long a task can run before it is logged as slow
+     *
+     * @param threshold The slow task threshold
+     */
+    public void setSlowThreshold(@NotNull Duration threshold) {
+        this.slowThreshold = Math.max(1, threshold.toNanos());
+    }
+
+    /**
+     * The timings of every task with the same label
+     */
+    public static final class Stats {
+
+        private final Histogram queue = new Histogram();
+        private final Histogram run = new Histogram();
+        private final LongAdder slow = new LongAdder();
+
+        public Histogram getQueue() {
+            return this.queue;
+        }
+
+        public Histogram getRun() {
+            return this.run;
+        }
+
+        public long getSlow() {
+            return this.slow.sum();
+        }
+
+    }
+
+    /**
+     * A histogram of durations in microseconds, bucket {@code n} counts durations below {@code 2^n} microseconds
+     */
+    public static final class Histogram {
+
+        private static final int BUCKETS = 32;
+
+        private final LongAdder[] buckets = new LongAdder[BUCKETS];
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        private Histogram() {
+            for (int i = 0; i < BUCKETS; i++) this.buckets[i] = new LongAdder();
+        }
+
+        /**
+         * Record a duration into the histogram
+         *
+         * @param nanos The duration in nanoseconds
+         */
+        private void record(long nanos) {
+            long micros = Math.max(0, nanos / 1000);
+            int bucket = Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+
+            this.buckets[bucket].increment();
+            this.count.increment();
+            this.total.add(micros);
+            this.max.accumulate(micros);
+        }
+
+        /**
+         * Get the duration that a percentage of the recorded durations are below, rounded up to the edge of its bucket
+         *
+         * @param percentile The percentile between 0 and 1
+         *
+         * @return The duration in microseconds
+         */
+        public long getPercentile(double percentile) {
+            long count = this.count.sum();
+            if (count == 0) return 0;
+
+            long target = (long) Math.ceil(count * percentile);
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += this.buckets[i].sum();
+                if (seen >= target) return Math.min(1L << i, this.getMax());
+            }
+
+            return this.getMax();
+        }
+
+        public long getCount() {
+            return this.count.sum();
+        }
+
+        public long getMean() {
+            long count = this.count.sum();
+            return count == 0 ? 0 : this.total.sum() / count;
+        }
+
+        public long getMax() {
+            return this.max.get();
+        }
+
+    }
+
+}
@@ -1,7 +1,6 @@
 package dev.oribuin.fishing.storage;
 
 import dev.oribuin.fishing.config.impl.Config;
-import dev.oribuin.fishing.util.FishUtils;
 import dev.oribuin.fishing.util.Placeholders;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.audience.ForwardingAudience;
@@ -21,6 +20,10 @@ public class Fisher implements ForwardingAudience.Single {
     private int experience;
     private int skillPoints;
     private Map<String, Integer> skills;
+    private boolean dirty;
+    private int entropyDelta;
+    private int experienceDelta;
+    private int skillPointsDelta;
 
     public Fisher(UUID uuid) {
         this.uuid = uuid;
@@ -29,6 +32,7 @@ public class Fisher implements ForwardingAudience.Single {
         this.experience = 0;
         this.skillPoints = 1;
         this.skills = new HashMap<>();
+        this.dirty = false;
     }
 
     /**
@@ -36,11 +40,12 @@ public class Fisher implements ForwardingAudience.Single {
      *
      * @return If the player leveled up
      */
-    public boolean levelUp() {
+    public synchronized boolean levelUp() {
         int requiredExp = this.getRequiredExp(); // Get the required experience to level up
-        this.experience -= requiredExp; // Remove the required experience from the player
+        this.addExperience(-requiredExp); // Remove the required experience from the player
+        this.addSkillPoints(1);
         this.level++;
-        this.skillPoints++;
+        this.markDirty();
         return true;
     }
 
@@ -66,8 +71,99 @@ public class Fisher implements ForwardingAudience.Single {
      * @return The required experience to level up
      */
     public int getRequiredExp() {
-        Placeholders placeholders = Placeholders.of("level", this.level);
-        return (int) FishUtils.evaluate(placeholders.applyString(Config.get().getExperienceFormula()));
+        return Config.get().getLevelCurve().getRequiredExp(this.level);
+    }
+
+    /**
+     * Give the player entropy, the change is saved as an amount added to the database instead of replacing the whole user
+     *
+     * @param amount The amount of entropy to add, negative to take entropy away
+     */
+    public synchronized void addEntropy(int amount) {
+        this.entropy += amount;
+        this.entropyDelta += amount;
+    }
+
+    /**
+     * Give the player experience, the change is saved as an amount added to the database instead of replacing the whole user
+     *
+     * @param amount The amount of experience to add, negative to take experience away
+     */
+    public synchronized void addExperience(int amount) {
+        this.experience += amount;
+        this.experienceDelta += amount;
+    }
+
+    /**
+     * Give the player skill points, the change is saved as an amount added to the database instead of replacing the whole user
+     *
+     * @param amount The amount of skill points to add, negative to take skill points away
+     */
+    public synchronized void addSkillPoints(int amount) {
+        this.skillPoints += amount;
+        this.skillPointsDelta += amount;
+    }
+
+    /**
+     * Mark the user's level and skills as changed so they are saved the next time the {@link dev.oribuin.fishing.manager.DataManager} flushes,
+     * this should be called after modifying the map from {@link #getSkills()}. Entropy, experience and skill points are always saved
+     * as the amount added, so they never overwrite changes made by another server.
+     */
+    public synchronized void markDirty() {
+        this.dirty = true;
+    }
+
+    /**
+     * Check if the user has changed since they were last saved
+     *
+     * @return true if the user needs to be saved
+     */
+    public synchronized boolean isDirty() {
+        return this.dirty || this.entropyDelta != 0 || this.experienceDelta != 0 || this.skillPointsDelta != 0;
+    }
+
+    /**
+     * Mark the user as saved, this should be called before the user is written so any changes made while saving are kept
+     *
+     * @return The changes made since the user was last saved along with the values they were saved at, null if nothing changed
+     */
+    public synchronized Changes markClean() {
+        if (!this.isDirty()) return null;
+
+        Snapshot snapshot = new Snapshot(this.entropy, this.level, this.experience, this.skillPoints, new HashMap<>(this.skills));
+        Changes changes = new Changes(this.dirty, this.entropyDelta, this.experienceDelta, this.skillPointsDelta, snapshot);
+        this.dirty = false;
+        this.entropyDelta = 0;
+        this.experienceDelta = 0;
+        this.skillPointsDelta = 0;
+        return changes;
+    }
+
+    /**
+     * Replace the user's values with the ones loaded from the database, any changes that haven't been saved yet are kept
+     *
+     * @param loaded The user loaded from the database
+     */
+    public synchronized void refresh(Fisher loaded) {
+        this.entropy = loaded.entropy + this.entropyDelta;
+        this.experience = loaded.experience + this.experienceDelta;
+        this.skillPoints = loaded.skillPoints + this.skillPointsDelta;
+        if (this.dirty) return; // The level and skills were changed here, so they replace the ones in the database
+
+        this.level = loaded.level;
+        this.skills = loaded.skills;
+    }
+
+    /**
+     * Give back changes that failed to save, so they are written again the next time the user is saved
+     *
+     * @param changes The changes from {@link #markClean()} that were rolled back
+     */
+    public synchronized void restore(Changes changes) {
+        this.dirty |= changes.profile();
+        this.entropyDelta += changes.entropy();
+        this.experienceDelta += changes.experience();
+        this.skillPointsDelta += changes.skillPoints();
     }
 
     public Placeholders getPlaceholders() {
@@ -88,40 +184,66 @@ public class Fisher implements ForwardingAudience.Single {
         return this.entropy;
     }
 
-    public void setEntropy(int entropy) {
-        this.entropy = entropy;
+    public synchronized void setEntropy(int entropy) {
+        this.addEntropy(entropy - this.entropy);
     }
 
     public int getLevel() {
         return this.level;
     }
 
-    public void setLevel(int level) {
+    public synchronized void setLevel(int level) {
         this.level = level;
+        this.markDirty();
     }
 
     public int getExperience() {
         return this.experience;
     }
 
-    public void setExperience(int experience) {
-        this.experience = experience;
+    public synchronized void setExperience(int experience) {
+        this.addExperience(experience - this.experience);
     }
 
     public int getSkillPoints() {
         return this.skillPoints;
     }
 
-    public void setSkillPoints(int skillPoints) {
-        this.skillPoints = skillPoints;
+    public synchronized void setSkillPoints(int skillPoints) {
+        this.addSkillPoints(skillPoints - this.skillPoints);
     }
 
     public Map<String, Integer> getSkills() {
         return this.skills;
     }
 
-    public void setSkills(Map<String, Integer> skills) {
+    public synchronized void setSkills(Map<String, Integer> skills) {
         this.skills = skills;
+        this.markDirty();
+    }
+
+    /**
+     * The changes made to a user since they were last saved
+     *
+     * @param profile     true if the user's level or skills need to be written
+     * @param entropy     The entropy added to the user
+     * @param experience  The experience added to the user
+     * @param skillPoints The skill points added to the user
+     * @param snapshot    The user's values when the changes were taken, used if the user isn't in the database yet
+     */
+    public record Changes(boolean profile, int entropy, int experience, int skillPoints, Snapshot snapshot) {
+    }
+
+    /**
+     * The values of a user at the moment they were marked as saved
+     *
+     * @param entropy     The user's entropy
+     * @param level       The user's level
+     * @param experience  The user's experience
+     * @param skillPoints The user's skill points
+     * @param skills      A copy of the user's skills
+     */
+    public record Snapshot(int entropy, int level, int experience, int skillPoints, Map<String, Integer> skills) {
     }
 
 }
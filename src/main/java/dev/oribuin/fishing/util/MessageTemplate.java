@@ -0,0 +1,252 @@
+package dev.oribuin.fishing.util;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TranslatableComponent;
+import net.kyori.adventure.text.event.HoverEvent;
+import net.kyori.adventure.text.format.TextDecoration;
+import net.kyori.adventure.text.minimessage.Context;
+import net.kyori.adventure.text.minimessage.ParsingException;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.ArgumentQueue;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.intellij.lang.annotations.Subst;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A message that has been parsed by MiniMessage once, with holes left where the placeholders go.
+ * <p>
+ * Every tag that isn't a formatting tag from {@link FishUtils#RESOLVER} is treated as a placeholder, rendering the template
+ * puts the placeholder components into the holes without parsing the message again. Messages without any placeholders are
+ * parsed into a single component that is reused every time.
+ * <p>
+ * Gradients and rainbows colour their text while the message is parsed, so a message with a placeholder inside one of them
+ * is parsed again every time it is rendered, the same as before templates were used.
+ */
+public final class MessageTemplate {
+
+    private static final int MAX_CACHED = 2048;
+    private static final String HOLE = "fishing:placeholder:";
+    private static final Pattern TAG_PATTERN = Pattern.compile("(?<!\\\\)<(/?)([a-zA-Z0-9_!?#-]+)[^>]*>");
+    private static final Set<String> TRANSITIONS = Set.of("gradient", "rainbow", "transition", "pride");
+    private static final Map<String, MessageTemplate> CACHE = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, MessageTemplate> eldest) {
+            return this.size() > MAX_CACHED; // Forget the messages that haven't been used for the longest time
+        }
+    };
+
+    private final String source;
+    private final Component component;
+    private final boolean constant;
+    private final boolean reparse;
+
+    /**
+     * Parse a new message into a template
+     *
+     * @param source The message to parse
+     */
+    private MessageTemplate(@NotNull String source) {
+        this.source = source;
+        this.reparse = hasTransitionHole(source);
+
+        // The placeholders need to be coloured by the gradient, so there's nothing to reuse
+        if (this.reparse) {
+            this.component = null;
+            this.constant = false;
+            return;
+        }
+
+        HoleResolver resolver = new HoleResolver();
+        this.component = FishUtils.MINIMESSAGE.deserialize(source, resolver).decoration(TextDecoration.ITALIC, false);
+        this.constant = !resolver.found;
+    }
+
+    /**
+     * Get the template for a message, templates are cached so the same message is only parsed once
+     *
+     * @param source The message to parse
+     *
+     * @return The message template
+     */
+    @NotNull
+    public static MessageTemplate of(@NotNull String source) {
+        synchronized (CACHE) {
+            MessageTemplate template = CACHE.get(source);
+            if (template != null) return template;
+        }
+
+        // Parse outside the lock, if two threads parse the same message at once the first one to finish is kept
+        MessageTemplate template = new MessageTemplate(source);
+        synchronized (CACHE) {
+            MessageTemplate existing = CACHE.putIfAbsent(source, template);
+            return existing != null ? existing : template;
+        }
+    }
+
+    /**
+     * Parse a message into a template without caching it, for messages that are only going to be used once
+     *
+     * @param source The message to parse
+     *
+     * @return The message template
+     */
+    @NotNull
+    public static MessageTemplate compile(@NotNull String source) {
+        return new MessageTemplate(source);
+    }
+
+    /**
+     * Render the template with the placeholders put into their holes
+     *
+     * @param placeholders The placeholders to apply
+     *
+     * @return The rendered message
+     */
+    @NotNull
+    public Component render(@NotNull Placeholders placeholders) {
+        if (this.constant) return this.component;
+        if (this.reparse) return this.parse(placeholders);
+
+        return this.fill(this.component, placeholders);
+    }
+
+    /**
+     * Parse the message again with the placeholders as tags, used when a placeholder is inside a gradient or rainbow
+     *
+     * @param placeholders The placeholders to apply
+     *
+     * @return The parsed message
+     */
+    private Component parse(Placeholders placeholders) {
+        TagResolver.Builder builder = TagResolver.builder();
+        builder.resolvers(FishUtils.RESOLVER);
+
+        for (Map.Entry<String, Component> entry : placeholders.getAll().entrySet()) {
+            @Subst("") String key = entry.getKey();
+            builder.tag(key, Tag.selfClosingInserting(entry.getValue()));
+        }
+
+        return FishUtils.MINIMESSAGE.deserialize(this.source, builder.build())
+                .decoration(TextDecoration.ITALIC, false);
+    }
+
+    /**
+     * Replace all the holes inside a component and its children
+     *
+     * @param component    The component to fill
+     * @param placeholders The placeholders to fill the holes with
+     *
+     * @return The filled component
+     */
+    private Component fill(Component component, Placeholders placeholders) {
+        if (component instanceof TranslatableComponent translatable && translatable.key().startsWith(HOLE)) {
+            String name = translatable.key().substring(HOLE.length());
+            Component value = placeholders.get(name);
+            if (value == null) value = Component.text(translatable.fallback()); // Unknown tags are left as they were written
+
+            return translatable.style().isEmpty() ? value : value.applyFallbackStyle(translatable.style());
+        }
+
+        Component result = component;
+        HoverEvent<?> hover = component.hoverEvent();
+        if (hover != null && hover.value() instanceof Component text) {
+            result = result.hoverEvent(HoverEvent.showText(this.fill(text, placeholders)));
+        }
+
+        List<Component> children = component.children();
+        if (children.isEmpty()) return result;
+
+        List<Component> filled = new ArrayList<>(children.size());
+        for (Component child : children) filled.add(this.fill(child, placeholders));
+
+        return result.children(filled);
+    }
+
+    /**
+     * Check if the template doesn't have any placeholders
+     *
+     * @return true if the template always renders the same component
+     */
+    public boolean isConstant() {
+        return this.constant;
+    }
+
+    /**
+     * The message the template was parsed from
+     *
+     * @return The source message
+     */
+    @NotNull
+    public String getSource() {
+        return this.source;
+    }
+
+    /**
+     * Check whether a message has a tag that could be a placeholder inside a gradient, rainbow or other colour transition
+     *
+     * @param source The message to check
+     *
+     * @return true if the message needs to be parsed for every render
+     */
+    private static boolean hasTransitionHole(String source) {
+        if (source.indexOf('<') == -1) return false;
+
+        int depth = 0;
+        Matcher matcher = TAG_PATTERN.matcher(source);
+        while (matcher.find()) {
+            String name = matcher.group(2).toLowerCase(Locale.ROOT);
+            boolean closing = !matcher.group(1).isEmpty();
+
+            if (TRANSITIONS.contains(name)) {
+                depth = Math.max(0, depth + (closing ? -1 : 1));
+                continue;
+            }
+
+            if (name.equals("reset")) {
+                depth = 0;
+                continue;
+            }
+
+            if (!closing && depth > 0 && !FishUtils.RESOLVER.has(name)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * A tag resolver that leaves a hole for every tag that isn't a formatting tag, the hole keeps the tag as it was written
+     * in case there's no placeholder to fill it
+     */
+    private static final class HoleResolver implements TagResolver {
+
+        private boolean found;
+
+        @Override
+        public @Nullable Tag resolve(@NotNull String name, @NotNull ArgumentQueue arguments, @NotNull Context ctx) throws ParsingException {
+            if (FishUtils.RESOLVER.has(name)) return FishUtils.RESOLVER.resolve(name, arguments, ctx);
+
+            StringBuilder raw = new StringBuilder("<").append(name);
+            while (arguments.hasNext()) raw.append(':').append(arguments.pop().value());
+
+            this.found = true;
+            return Tag.selfClosingInserting(Component.translatable(HOLE + name, raw.append('>').toString()));
+        }
+
+        @Override
+        public boolean has(@NotNull String name) {
+            return true;
+        }
+
+    }
+
+}
@@ -13,33 +13,85 @@ import java.util.Objects;
 
 /**
  * An immutable class that holds a map of placeholders and their values
+ * <p>
+ * Placeholders can be layered on top of another set of placeholders with {@link #over(Placeholders)},
+ * which looks up values through each layer instead of copying the maps together.
  */
 public final class Placeholders {
 
     private final static Placeholders EMPTY = new Placeholders(Collections.emptyMap());
 
     private final Map<String, Component> placeholders;
+    private final Placeholders parent;
+    private volatile Map<String, Component> merged;
     private TagResolver resolvers;
 
     private Placeholders(Map<String, Component> placeholders) {
+        this(placeholders, null);
+    }
+
+    private Placeholders(Map<String, Component> placeholders, Placeholders parent) {
         this.placeholders = Collections.unmodifiableMap(placeholders);
+        this.parent = parent;
         this.resolvers = FishUtils.RESOLVER;
     }
 
     /**
-     * Applies the placeholders to the given string
+     * Layer these placeholders on top of another set of placeholders, the values in this layer will be used first.
+     * Neither of the maps are copied, so this is cheap to do for every message.
+     *
+     * @param fallback The placeholders to use when this layer doesn't have a value
+     *
+     * @return The layered placeholders
+     */
+    public Placeholders over(Placeholders fallback) {
+        if (fallback == null || fallback.isEmpty()) return this;
+        if (this.isEmpty()) return fallback;
+
+        return new Placeholders(this.placeholders, this.parent != null ? this.parent.over(fallback) : fallback);
+    }
+
+    /**
+     * Get the value of a placeholder, checking each layer in order
+     *
+     * @param placeholder The placeholder to get
+     *
+     * @return The value of the placeholder, null if it's not in any layer
+     */
+    public Component get(String placeholder) {
+        Component value = this.placeholders.get(placeholder);
+        if (value != null || this.parent == null) return value;
+
+        return this.parent.get(placeholder);
+    }
+
+    /**
+     * Check if there are no placeholders in any layer
+     *
+     * @return true if there are no placeholders
+     */
+    public boolean isEmpty() {
+        return this.placeholders.isEmpty() && (this.parent == null || this.parent.isEmpty());
+    }
+
+    /**
+     * Applies the placeholders to the given string, the string is only parsed once and reused through {@link MessageTemplate}
      *
      * @param string the string to apply the placeholders to
      *
      * @return the string with the placeholders replaced
      */
     public Component apply(String string) {
+        if (this.resolvers == FishUtils.RESOLVER) {
+            return MessageTemplate.of(string).render(this);
+        }
+
         TagResolver.Builder builder = TagResolver.builder();
         builder.resolvers(this.resolvers);
 
-        for (@Subst("") String key : this.placeholders.keySet()) {
-            Component value = this.placeholders.get(key);
-            builder.tag(key, Tag.selfClosingInserting(value));
+        for (Map.Entry<String, Component> entry : this.getAll().entrySet()) {
+            @Subst("") String key = entry.getKey();
+            builder.tag(key, Tag.selfClosingInserting(entry.getValue()));
         }
 
         return FishUtils.MINIMESSAGE.deserialize(string, builder.build())
@@ -58,10 +110,19 @@ public final class Placeholders {
     }
 
     /**
-     * @return an unmodifiable map of the placeholders
+     * @return an unmodifiable map of the placeholders, including the placeholders from every layer
      */
     public Map<String, Component> getAll() {
-        return this.placeholders;
+        if (this.parent == null) return this.placeholders;
+
+        Map<String, Component> result = this.merged;
+        if (result == null) {
+            Map<String, Component> values = new HashMap<>(this.parent.getAll());
+            values.putAll(this.placeholders);
+            this.merged = result = Collections.unmodifiableMap(values);
+        }
+
+        return result;
     }
 
     public TagResolver getResolvers() {
@@ -0,0 +1,88 @@
+package dev.oribuin.fishing.util.math;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A table for picking a random index by weight in constant time, using Vose's alias method.
+ * <p>
+ * Building the table is linear in the amount of weights, so it should be built once and sampled many times.
+ */
+public final class AliasTable {
+
+    private final double[] probability;
+    private final int[] alias;
+    private final boolean empty;
+
+    /**
+     * Build a new alias table from a list of weights, weights of 0 or less will never be picked
+     *
+     * @param weights The weights for each index
+     */
+    public AliasTable(double @NotNull [] weights) {
+        int size = weights.length;
+        this.probability = new double[size];
+        this.alias = new int[size];
+
+        double total = 0;
+        for (double weight : weights) total += Math.max(0, weight);
+
+        this.empty = total <= 0;
+        if (this.empty) return;
+
+        // Scale the weights so the average is 1
+        double[] scaled = new double[size];
+        int[] small = new int[size];
+        int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < size; i++) {
+            scaled[i] = Math.max(0, weights[i]) * size / total;
+            if (scaled[i] < 1) small[smallCount++] = i;
+            else large[largeCount++] = i;
+        }
+
+        // Pair each small weight with a large weight to fill its column
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            this.probability[less] = scaled[less];
+            this.alias[less] = more;
+
+            scaled[more] = (scaled[more] + scaled[less]) - 1;
+            if (scaled[more] < 1) small[smallCount++] = more;
+            else large[largeCount++] = more;
+        }
+
+        // Anything left over is only off because of rounding
+        while (largeCount > 0) this.probability[large[--largeCount]] = 1;
+        while (smallCount > 0) this.probability[small[--smallCount]] = 1;
+    }
+
+    /**
+     * Pick a random index from the table
+     *
+     * @param random The random generator to use
+     *
+     * @return The index picked, -1 if there is nothing that can be picked
+     */
+    public int sample(@NotNull RandomGenerator random) {
+        if (this.isEmpty()) return -1;
+
+        int column = random.nextInt(this.probability.length);
+        return random.nextDouble() < this.probability[column] ? column : this.alias[column];
+    }
+
+    /**
+     * Check if there is nothing that can be picked from the table
+     *
+     * @return true if all the weights were 0
+     */
+    public boolean isEmpty() {
+        return this.empty;
+    }
+
+}
@@ -0,0 +1,186 @@
+package dev.oribuin.fishing.util.math;
+
+import dev.oribuin.fishing.FishingPlugin;
+import net.objecthunter.exp4j.Expression;
+import net.objecthunter.exp4j.ExpressionBuilder;
+import net.objecthunter.exp4j.ValidationResult;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A math formula from the configuration that has been compiled once and can be evaluated many times.
+ * <p>
+ * Variables are written as placeholders in the configuration, e.g. {@code <level> * 0.05}, and are passed by name when evaluating.
+ * Any variable that is not passed will be evaluated as 0.
+ */
+public final class Formula {
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("<([a-zA-Z_][a-zA-Z0-9_]*)>");
+    private static final Map<String, Formula> CACHE = new ConcurrentHashMap<>();
+
+    private final String source;
+    private final String[] variables;
+    private final ThreadLocal<Expression> expression;
+    private final double constant;
+    private volatile boolean warned;
+
+    /**
+     * Compile a new formula from the configuration
+     *
+     * @param source The formula as written in the configuration
+     */
+    private Formula(@NotNull String source) {
+        this.source = source;
+
+        // Turn the placeholders into exp4j variables
+        Set<String> variables = new LinkedHashSet<>();
+        Matcher matcher = VARIABLE_PATTERN.matcher(source);
+        while (matcher.find()) variables.add(matcher.group(1));
+        this.variables = variables.toArray(String[]::new);
+
+        Expression compiled = null;
+        double constant = 0;
+        try {
+            compiled = new ExpressionBuilder(matcher.replaceAll("$1"))
+                    .variables(variables)
+                    .build();
+
+            // Make sure the formula is valid before it is used
+            ValidationResult result = compiled.validate(false);
+            if (!result.isValid()) throw new IllegalArgumentException(String.join(", ", result.getErrors()));
+
+            // Formulas without any variables only need to be evaluated once
+            if (this.variables.length == 0) constant = compiled.evaluate();
+        } catch (IllegalArgumentException | ArithmeticException ex) {
+            FishingPlugin.get().getLogger().warning("Failed to compile the formula [" + source + "] due to: " + ex.getMessage());
+            compiled = null;
+        }
+
+        if (compiled == null || this.variables.length == 0) {
+            this.constant = constant;
+            this.expression = null;
+            return;
+        }
+
+        Expression base = compiled;
+        this.constant = 0;
+        this.expression = ThreadLocal.withInitial(() -> new Expression(base));
+    }
+
+    /**
+     * Get a compiled formula, formulas are cached so the same formula is only ever compiled once
+     *
+     * @param source The formula as written in the configuration
+     *
+     * @return The compiled formula
+     */
+    @NotNull
+    public static Formula of(@NotNull String source) {
+        return CACHE.computeIfAbsent(source, Formula::new);
+    }
+
+    /**
+     * Remove all the compiled formulas from the cache, called when the plugin is reloaded so old formulas don't build up.
+     * Formulas that are still being used will keep working
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    /**
+     * Evaluate the formula without any variables
+     *
+     * @return The result of the formula
+     */
+    public double evaluate() {
+        if (this.expression == null) return this.constant;
+
+        Expression expression = this.expression.get();
+        for (String variable : this.variables) expression.setVariable(variable, 0);
+        return this.evaluate(expression);
+    }
+
+    /**
+     * Evaluate the formula with a single variable
+     *
+     * @param name  The name of the variable
+     * @param value The value of the variable
+     *
+     * @return The result of the formula
+     */
+    public double evaluate(@NotNull String name, double value) {
+        if (this.expression == null) return this.constant;
+
+        Expression expression = this.expression.get();
+        for (String variable : this.variables) {
+            expression.setVariable(variable, variable.equals(name) ? value : 0);
+        }
+
+        return this.evaluate(expression);
+    }
+
+    /**
+     * Evaluate the formula with two variables
+     *
+     * @param name        The name of the first variable
+     * @param value       The value of the first variable
+     * @param secondName  The name of the second variable
+     * @param secondValue The value of the second variable
+     *
+     * @return The result of the formula
+     */
+    public double evaluate(@NotNull String name, double value, @NotNull String secondName, double secondValue) {
+        if (this.expression == null) return this.constant;
+
+        Expression expression = this.expression.get();
+        for (String variable : this.variables) {
+            if (variable.equals(name)) expression.setVariable(variable, value);
+            else if (variable.equals(secondName)) expression.setVariable(variable, secondValue);
+            else expression.setVariable(variable, 0);
+        }
+
+        return this.evaluate(expression);
+    }
+
+    /**
+     * Evaluate the expression with the variables that have been set, any math errors (e.g. dividing by zero) are logged once and evaluate to 0
+     *
+     * @param expression The expression to evaluate
+     *
+     * @return The result of the formula
+     */
+    private double evaluate(Expression expression) {
+        try {
+            return expression.evaluate();
+        } catch (ArithmeticException | IllegalArgumentException ex) {
+            if (!this.warned) {
+                this.warned = true;
+                FishingPlugin.get().getLogger().warning("Failed to evaluate the formula [" + this.source + "] due to: " + ex.getMessage());
+            }
+
+            return 0;
+        }
+    }
+
+    /**
+     * The formula as written in the configuration
+     *
+     * @return The formula source
+     */
+    @NotNull
+    public String getSource() {
+        return this.source;
+    }
+
+    @Override
+    public String toString() {
+        return this.source;
+    }
+
+}
@@ -0,0 +1,87 @@
+package dev.oribuin.fishing.util.math;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * A table of the experience required for each level, calculated from a {@link Formula} once instead of every time it's needed.
+ * <p>
+ * Levels past the size of the table are added to the table the first time they are requested.
+ */
+public final class LevelCurve {
+
+    private static final int MAX_SIZE = 1 << 20; // Anything past this is calculated every time
+
+    private final Formula formula;
+    private volatile int[] required;
+
+    /**
+     * Create a new level curve and calculate the required experience for all the levels up to the size
+     *
+     * @param formula The formula for the experience required, using the {@code <level>} variable
+     * @param size    The amount of levels to calculate
+     */
+    public LevelCurve(@NotNull Formula formula, int size) {
+        this.formula = formula;
+        this.required = this.calculate(new int[0], Math.clamp(size, 1, MAX_SIZE));
+    }
+
+    /**
+     * Get the experience required to level up from a level
+     *
+     * @param level The current level
+     *
+     * @return The required experience
+     */
+    public int getRequiredExp(int level) {
+        if (level < 0 || level >= MAX_SIZE) return (int) this.formula.evaluate("level", level);
+
+        int[] required = this.required;
+        if (level < required.length) return required[level];
+
+        return this.extend(level)[level];
+    }
+
+    /**
+     * The amount of levels currently in the table
+     *
+     * @return The size of the table
+     */
+    public int size() {
+        return this.required.length;
+    }
+
+    /**
+     * Extend the table so that it includes a level
+     *
+     * @param level The level to include
+     *
+     * @return The extended table
+     */
+    private synchronized int[] extend(int level) {
+        int[] required = this.required;
+        if (level < required.length) return required; // Already extended by another thread
+
+        int size = Math.min(MAX_SIZE, Math.max(required.length * 2, level + 1));
+        this.required = this.calculate(required, size);
+        return this.required;
+    }
+
+    /**
+     * Calculate the required experience for all the levels that are missing from a table
+     *
+     * @param existing The existing table
+     * @param size     The new size of the table
+     *
+     * @return The new table
+     */
+    private int[] calculate(int[] existing, int size) {
+        int[] result = new int[size];
+        System.arraycopy(existing, 0, result, 0, existing.length);
+        for (int level = existing.length; level < size; level++) {
+            result[level] = (int) this.formula.evaluate("level", level);
+        }
+
+        return result;
+    }
+
+}
@@ -0,0 +1,57 @@
+package dev.oribuin.fishing.util.math;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Precomputed points around a circle, shared between everything that draws rings with the same radius.
+ * <p>
+ * The offsets are stored as {@code [x0, z0, x1, z1, ...]} relative to the center of the ring, the arrays are shared and must not be modified.
+ */
+public final class RingGeometry {
+
+    private static final Map<Shape, double[]> OFFSETS = new ConcurrentHashMap<>();
+
+    private RingGeometry() {
+        throw new IllegalStateException("RingGeometry is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * Get the offsets for every point around a ring
+     *
+     * @param radius The radius of the ring
+     * @param points The amount of points around the ring
+     *
+     * @return The x and z offsets of each point, this should not be modified
+     */
+    public static double[] offsets(double radius, int points) {
+        return OFFSETS.computeIfAbsent(new Shape(radius, points), RingGeometry::compute);
+    }
+
+    /**
+     * Calculate the offsets for every point around a ring
+     *
+     * @param shape The ring to calculate
+     *
+     * @return The x and z offsets of each point
+     */
+    private static double[] compute(Shape shape) {
+        double[] result = new double[shape.points() * 2];
+        for (int i = 0; i < shape.points(); i++) {
+            double angle = Math.PI * 2 * ((double) i / shape.points());
+            result[i * 2] = MathL.cos(angle) * shape.radius();
+            result[i * 2 + 1] = MathL.sin(angle) * shape.radius();
+        }
+
+        return result;
+    }
+
+    /**
+     * The size of a ring
+     *
+     * @param radius The radius of the ring
+     * @param points The amount of points around the ring
+     */
+    private record Shape(double radius, int points) {}
+
+}
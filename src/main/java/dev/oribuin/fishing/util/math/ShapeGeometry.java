@@ -0,0 +1,394 @@
+package dev.oribuin.fishing.util.math;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * A library of particle shapes, each shape is a sequence of frames made of points stored as {@code [x0, y0, z0, x1, y1, z1, ...]}
+ * relative to the centre of the shape.
+ * <p>
+ * Shapes are calculated once for every size and resolution and shared between everything that uses them,
+ * so the arrays returned must not be modified.
+ */
+public final class ShapeGeometry {
+
+    private static final double TAU = Math.PI * 2;
+    private static final Map<Shape, double[][]> CACHE = new ConcurrentHashMap<>();
+
+    private ShapeGeometry() {
+        throw new IllegalStateException("ShapeGeometry is a utility class and cannot be instantiated.");
+    }
+
+    /**
+     * A flat circle of points
+     *
+     * @param radius The radius of the circle
+     * @param points The amount of points around the circle
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] circle(double radius, int points) {
+        return cached(new Shape("circle", radius, 0, points, 1), shape -> new double[][]{
+                ring(shape.size(), 0, shape.points(), 0)
+        });
+    }
+
+    /**
+     * A sphere of points spread evenly over the surface
+     *
+     * @param radius The radius of the sphere
+     * @param points The amount of points on the sphere
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] sphere(double radius, int points) {
+        return cached(new Shape("sphere", radius, 0, points, 1), shape -> {
+            int count = shape.points();
+            double[] result = new double[count * 3];
+            double golden = Math.PI * (3 - Math.sqrt(5)); // Spread the points out using the golden angle
+
+            for (int i = 0; i < count; i++) {
+                double y = count == 1 ? 0 : 1 - (i / (double) (count - 1)) * 2;
+                double ring = Math.sqrt(1 - y * y);
+                double angle = golden * i;
+
+                result[i * 3] = MathL.cos(angle) * ring * shape.size();
+                result[i * 3 + 1] = y * shape.size();
+                result[i * 3 + 2] = MathL.sin(angle) * ring * shape.size();
+            }
+
+            return new double[][]{ result };
+        });
+    }
+
+    /**
+     * A spiral that gets narrower as it rises, spinning around the centre
+     *
+     * @param radius The radius at the bottom of the vortex
+     * @param height The height of the vortex
+     * @param points The amount of points in the spiral
+     * @param frames The amount of frames for a full rotation
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] vortex(double radius, double height, int points, int frames) {
+        return cached(new Shape("vortex", radius, height, points, frames), shape -> {
+            double[][] result = new double[shape.frames()][];
+            for (int frame = 0; frame < shape.frames(); frame++) {
+                double rotation = TAU * frame / shape.frames();
+                double[] current = new double[shape.points() * 3];
+
+                for (int i = 0; i < shape.points(); i++) {
+                    double progress = i / (double) shape.points();
+                    double angle = rotation + progress * TAU * 3; // Three turns from the bottom to the top
+                    double distance = shape.size() * (1 - progress);
+
+                    current[i * 3] = MathL.cos(angle) * distance;
+                    current[i * 3 + 1] = progress * shape.height();
+                    current[i * 3 + 2] = MathL.sin(angle) * distance;
+                }
+
+                result[frame] = current;
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * Two spinning strands of points that move up and down together like a scanner
+     *
+     * @param radius The radius of the scanner
+     * @param height The height the scanner moves between
+     * @param points The amount of points in each strand
+     * @param frames The amount of frames for the scanner to go up and back down
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] helixScanner(double radius, double height, int points, int frames) {
+        return cached(new Shape("helix_scanner", radius, height, points, frames), shape -> {
+            double[][] result = new double[shape.frames()][];
+            double spread = 0.5; // How far apart each point in a strand is in radians
+
+            for (int frame = 0; frame < shape.frames(); frame++) {
+                double progress = frame / (double) shape.frames();
+                double y = (1 - MathL.cos(progress * TAU)) / 2 * shape.height();
+                double rotation = progress * TAU * 2;
+                double[] current = new double[shape.points() * 6];
+
+                for (int i = 0; i < shape.points(); i++) {
+                    double angle = rotation + i * spread;
+                    for (int strand = 0; strand < 2; strand++) {
+                        int index = (i * 2 + strand) * 3;
+                        current[index] = MathL.cos(angle + strand * Math.PI) * shape.size();
+                        current[index + 1] = y;
+                        current[index + 2] = MathL.sin(angle + strand * Math.PI) * shape.size();
+                    }
+                }
+
+                result[frame] = current;
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * A ring of points moving outwards from the centre
+     *
+     * @param radius The radius the ring grows to
+     * @param points The amount of points around the ring
+     * @param frames The amount of frames for the ring to reach the radius
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] pulse(double radius, int points, int frames) {
+        return cached(new Shape("pulse", radius, 0, points, frames), shape -> {
+            double[][] result = new double[shape.frames()][];
+            for (int frame = 0; frame < shape.frames(); frame++) {
+                double distance = shape.size() * (frame + 1) / shape.frames();
+                result[frame] = ring(distance, 0, shape.points(), 0);
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * A ring of points moving inwards towards the centre
+     *
+     * @param radius The radius the ring starts at
+     * @param points The amount of points around the ring
+     * @param frames The amount of frames for the ring to reach the centre
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] magnet(double radius, int points, int frames) {
+        return cached(new Shape("magnet", radius, 0, points, frames), shape -> {
+            double[][] result = new double[shape.frames()][];
+            for (int frame = 0; frame < shape.frames(); frame++) {
+                double distance = shape.size() * (shape.frames() - frame) / shape.frames();
+                result[frame] = ring(distance, 0, shape.points(), 0);
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * A funnel of points spiralling down and inwards into the centre
+     *
+     * @param radius The radius at the top of the well
+     * @param height The height of the well
+     * @param points The amount of points falling into the well
+     * @param frames The amount of frames for a point to reach the centre
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] gravityWell(double radius, double height, int points, int frames) {
+        return cached(new Shape("gravity_well", radius, height, points, frames), shape -> {
+            double[][] result = new double[shape.frames()][];
+            for (int frame = 0; frame < shape.frames(); frame++) {
+                double[] current = new double[shape.points() * 3];
+                for (int i = 0; i < shape.points(); i++) {
+                    // Each point is a bit further along the fall than the last, wrapping back to the top
+                    double progress = (i / (double) shape.points() + frame / (double) shape.frames()) % 1;
+                    double fall = progress * progress; // Points speed up as they get closer to the centre
+                    double angle = (i / (double) shape.points()) * TAU + progress * TAU * 2;
+                    double distance = shape.size() * (1 - fall);
+
+                    current[i * 3] = MathL.cos(angle) * distance;
+                    current[i * 3 + 1] = shape.height() * (1 - fall);
+                    current[i * 3 + 2] = MathL.sin(angle) * distance;
+                }
+
+                result[frame] = current;
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * The outline of a flat square made of block positions, relative to the centre of the block the shape is played in
+     *
+     * @param radiusX The distance from the centre to the edge on the x-axis in blocks
+     * @param radiusZ The distance from the centre to the edge on the z-axis in blocks
+     * @param y       The height of the square in blocks
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] square(int radiusX, int radiusZ, int y) {
+        return cached(new Shape("square", radiusX, y, radiusZ, 1, 1), shape -> {
+            BlockPoints points = new BlockPoints();
+            outline(points, radiusX, y, radiusZ);
+            return new double[][]{ points.toArray() };
+        });
+    }
+
+    /**
+     * The walls of a cube made of block positions, relative to the centre of the block the shape is played in.
+     * <p>
+     * The cube is {@code radiusY} blocks tall around the centre, when that is an odd number the extra layer is below the centre
+     * unless the centre is in the top half of its block.
+     *
+     * @param radiusX The distance from the centre to the walls on the x-axis in blocks
+     * @param radiusY The height of the cube in blocks
+     * @param radiusZ The distance from the centre to the walls on the z-axis in blocks
+     * @param raised  Whether the centre is in the top half of its block
+     *
+     * @return The frames of the shape
+     */
+    public static double[][] cube(int radiusX, int radiusY, int radiusZ, boolean raised) {
+        return cached(new Shape(raised ? "cube_raised" : "cube", radiusX, radiusY, radiusZ, 1, 1), shape -> {
+            double offset = raised ? 0.5 : 0; // The centre is somewhere in the bottom half of the block
+            int minY = (int) Math.floor(offset - radiusY / 2.0);
+            int maxY = (int) Math.floor(offset + radiusY / 2.0);
+
+            BlockPoints points = new BlockPoints();
+            for (int y = minY; y < maxY; y++) outline(points, radiusX, y, radiusZ);
+            return new double[][]{ points.toArray() };
+        });
+    }
+
+    /**
+     * Move the points of a frame to a new centre
+     *
+     * @param offsets The points relative to the centre
+     * @param x       The x coordinate of the centre
+     * @param y       The y coordinate of the centre
+     * @param z       The z coordinate of the centre
+     *
+     * @return The moved points
+     */
+    public static double[] translate(double[] offsets, double x, double y, double z) {
+        double[] result = new double[offsets.length];
+        for (int i = 0; i + 2 < offsets.length; i += 3) {
+            result[i] = offsets[i] + x;
+            result[i + 1] = offsets[i + 1] + y;
+            result[i + 2] = offsets[i + 2] + z;
+        }
+
+        return result;
+    }
+
+    /**
+     * Calculate the points around a flat ring
+     *
+     * @param radius   The radius of the ring
+     * @param y        The height of the ring
+     * @param points   The amount of points around the ring
+     * @param rotation The rotation of the first point in radians
+     *
+     * @return The points of the ring
+     */
+    private static double[] ring(double radius, double y, int points, double rotation) {
+        double[] result = new double[points * 3];
+        for (int i = 0; i < points; i++) {
+            double angle = rotation + TAU * ((double) i / points);
+            result[i * 3] = MathL.cos(angle) * radius;
+            result[i * 3 + 1] = y;
+            result[i * 3 + 2] = MathL.sin(angle) * radius;
+        }
+
+        return result;
+    }
+
+    /**
+     * Add the block positions around the edge of a flat square, in the same order the old cube and square animations used
+     *
+     * @param points  The points to add to
+     * @param radiusX The distance from the centre to the edge on the x-axis in blocks
+     * @param y       The height of the square in blocks
+     * @param radiusZ The distance from the centre to the edge on the z-axis in blocks
+     */
+    private static void outline(BlockPoints points, int radiusX, int y, int radiusZ) {
+        for (int x = -radiusX; x <= radiusX; x++) {
+            points.add(x, y, -radiusZ);
+            points.add(x, y, radiusZ);
+        }
+
+        for (int z = -radiusZ; z <= radiusZ; z++) {
+            points.add(-radiusX, y, z);
+            points.add(radiusX, y, z);
+        }
+    }
+
+    /**
+     * Get a shape from the cache, or calculate it if it hasn't been used before
+     *
+     * @param shape    The shape to get
+     * @param function The function to calculate the shape
+     *
+     * @return The frames of the shape
+     */
+    private static double[][] cached(Shape shape, Function<Shape, double[][]> function) {
+        return CACHE.computeIfAbsent(shape, function);
+    }
+
+    /**
+     * The type, size and resolution of a shape
+     *
+     * @param type   The type of shape
+     * @param size   The radius of the shape
+     * @param height The height of the shape
+     * @param depth  The radius of the shape on the z-axis, for shapes that aren't round
+     * @param points The amount of points in each frame
+     * @param frames The amount of frames
+     */
+    private record Shape(String type, double size, double height, double depth, int points, int frames) {
+
+        private Shape {
+            points = Math.max(1, points);
+            frames = Math.max(1, frames);
+        }
+
+        private Shape(String type, double size, double height, int points, int frames) {
+            this(type, size, height, 0, points, frames);
+        }
+
+    }
+
+    /**
+     * A list of block positions that skips any position that has already been added
+     */
+    private static final class BlockPoints {
+
+        private final Set<Long> seen = new HashSet<>();
+        private double[] values = new double[48];
+        private int size;
+
+        /**
+         * Add a block position if it hasn't been added already
+         *
+         * @param x The x offset in blocks
+         * @param y The y offset in blocks
+         * @param z The z offset in blocks
+         */
+        private void add(int x, int y, int z) {
+            long key = ((x & 0x1FFFFFL) << 42) | ((y & 0x1FFFFFL) << 21) | (z & 0x1FFFFFL);
+            if (!this.seen.add(key)) return;
+
+            if (this.size + 3 > this.values.length) {
+                double[] grown = new double[this.values.length * 2];
+                System.arraycopy(this.values, 0, grown, 0, this.size);
+                this.values = grown;
+            }
+
+            this.values[this.size++] = x;
+            this.values[this.size++] = y;
+            this.values[this.size++] = z;
+        }
+
+        private double[] toArray() {
+            double[] result = new double[this.size];
+            System.arraycopy(this.values, 0, result, 0, this.size);
+            return result;
+        }
+
+    }
+
+}